@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.benchmark;
+
+import com.bloggios.authenticationconfig.audit.AuthenticationAuditLog;
+import com.bloggios.authenticationconfig.authentication.AuthenticationMode;
+import com.bloggios.authenticationconfig.authentication.AuthenticationOutcome;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.benchmark
+ * Created_on - 18 October-2026
+ * Created_at - 22 : 40
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationAuditLogBenchmark {
+
+    private static final String USER_ID = "5b0e4c2a-8d1f-4a7e-9c3b-2f6d1e8a7b90";
+    private static final String BREADCRUMB_ID = "01JABCDEF0123456789XYZ";
+
+    @Param({"DROP", "BLOCK"})
+    private SecurityConfigProperties.OverflowPolicy overflow;
+
+    private Path directory;
+    private AuthenticationAuditLog authenticationAuditLog;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("audit-benchmark");
+        SecurityConfigProperties properties = AuthenticationFixtures.properties(10);
+        SecurityConfigProperties.Audit audit = properties.getAudit();
+        audit.setEnabled(true);
+        audit.setFile(directory.resolve("audit.log").toString());
+        audit.setOverflow(overflow);
+        authenticationAuditLog = new AuthenticationAuditLog(properties);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException, IOException {
+        authenticationAuditLog.destroy();
+        System.out.printf("%npublished=%d written=%d dropped=%d failed=%d%n",
+                authenticationAuditLog.getPublishedCount(),
+                authenticationAuditLog.getWrittenCount(),
+                authenticationAuditLog.getDroppedCount(),
+                authenticationAuditLog.getFailedCount());
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    // Publishing flat out saturates the ring: DROP then mostly measures the drop path, BLOCK the sustained writer rate
+    @Benchmark
+    public boolean record() {
+        return authenticationAuditLog.record(AuthenticationMode.BEARER, AuthenticationOutcome.SUCCESS, USER_ID, AuthenticationFixtures.CLIENT_IP, BREADCRUMB_ID);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean recordContended() {
+        return authenticationAuditLog.record(AuthenticationMode.BEARER, AuthenticationOutcome.SUCCESS, USER_ID, AuthenticationFixtures.CLIENT_IP, BREADCRUMB_ID);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.benchmark;
+
+import com.bloggios.authenticationconfig.audit.AuthenticationAuditLog;
+import com.bloggios.authenticationconfig.authentication.AuthorityRegistry;
+import com.bloggios.authenticationconfig.authentication.BloggiosAuthenticationEntryPoint;
+import com.bloggios.authenticationconfig.authentication.BreadcrumbIdResolver;
+import com.bloggios.authenticationconfig.authentication.ClientIpBinding;
+import com.bloggios.authenticationconfig.authentication.ClientIpResolver;
+import com.bloggios.authenticationconfig.authentication.CookieTokenExtractor;
+import com.bloggios.authenticationconfig.authentication.ErrorResponseWriter;
+import com.bloggios.authenticationconfig.authentication.ErrorResponses;
+import com.bloggios.authenticationconfig.authentication.FailedAuthenticationLimiter;
+import com.bloggios.authenticationconfig.authentication.JwtTokenValidationFilter;
+import com.bloggios.authenticationconfig.authentication.MyAccessDeniedHandler;
+import com.bloggios.authenticationconfig.authentication.PathClassifier;
+import com.bloggios.authenticationconfig.authentication.RejectedTokenCache;
+import com.bloggios.authenticationconfig.authentication.TimeOrderedBreadcrumbIdGenerator;
+import com.bloggios.authenticationconfig.authentication.TokenVerifier;
+import com.bloggios.authenticationconfig.configuration.ApplicationBeans;
+import com.bloggios.authenticationconfig.decoder.JwkSetKeyProvider;
+import com.bloggios.authenticationconfig.metrics.AuthenticationMetrics;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.revocation.RevocationSource;
+import com.bloggios.authenticationconfig.revocation.TokenRevocationList;
+import com.bloggios.authenticationconfig.util.JwtDecoderUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.util.AntPathMatcher;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.benchmark
+ * Created_on - 18 October-2026
+ * Created_at - 14 : 05
+ */
+
+public final class AuthenticationFixtures {
+
+    public static final String CLIENT_IP = "203.0.113.10";
+    public static final String COOKIE_NAME = "accessToken";
+    public static final String REFRESH_COOKIE_NAME = "refreshToken";
+    public static final KeyPair KEY_PAIR = generateKeyPair();
+    public static final KeyPair FOREIGN_KEY_PAIR = generateKeyPair();
+
+    private static final String[] EXCLUDE_PATHS = {
+            "/auth/**", "/actuator/health", "/actuator/info", "/api/v1/public/**", "/swagger-ui/**",
+            "/v3/api-docs/**", "/oauth2/**", "/unauthenticated/**", "/api/v1/blogs/*/preview", "/static/**/*.js"
+    };
+
+    private AuthenticationFixtures() {
+    }
+
+    public static String token(String clientIp, Duration ttl) {
+        return token(clientIp, ttl, KEY_PAIR);
+    }
+
+    public static String token(String clientIp, Duration ttl, KeyPair keyPair) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("0f5a3c1e-6a53-4f1b-9d7e-3f0b2a7c9e11")
+                .claim("email", "rohit@bloggios.com")
+                .claim("username", "rohit")
+                .claim("is-badge", "true")
+                .claim("authority", List.of("ROLE_USER", "ROLE_WRITER"))
+                .claim("remoteAddress", clientIp)
+                .issuer("bloggios")
+                .issueTime(Date.from(expiresAt.minus(Duration.ofHours(1))))
+                .expirationTime(Date.from(expiresAt))
+                .build();
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).type(JOSEObjectType.JWT).build(), claims);
+        try {
+            signedJWT.sign(new RSASSASigner(keyPair.getPrivate()));
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+        return signedJWT.serialize();
+    }
+
+    public static List<String> excludePaths(int count) {
+        List<String> paths = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String path = EXCLUDE_PATHS[i % EXCLUDE_PATHS.length];
+            paths.add(i < EXCLUDE_PATHS.length ? path : "/service-" + i + path);
+        }
+        return paths;
+    }
+
+    public static SecurityConfigProperties properties(int excludePathCount) {
+        SecurityConfigProperties properties = new SecurityConfigProperties();
+        SecurityConfigProperties.Exclude exclude = new SecurityConfigProperties.Exclude();
+        exclude.setPaths(excludePaths(excludePathCount));
+        properties.setExclude(exclude);
+        SecurityConfigProperties.Cookie cookie = new SecurityConfigProperties.Cookie();
+        cookie.setCookieName(COOKIE_NAME);
+        cookie.setRefreshCookieName(REFRESH_COOKIE_NAME);
+        cookie.setPaths(List.of("/auth/refresh/**", "/data/refresh/**"));
+        properties.setCookie(cookie);
+        properties.getKeyProvider().setPublicKey("-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder().encodeToString(KEY_PAIR.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----\n");
+        return properties;
+    }
+
+    public static JwtDecoder jwtDecoder(SecurityConfigProperties properties) {
+        return new ApplicationBeans(properties).jwtDecoder(new DefaultListableBeanFactory().getBeanProvider(JwkSetKeyProvider.class));
+    }
+
+    public static ErrorResponses errorResponses() {
+        try {
+            return new ErrorResponses();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static JwtTokenValidationFilter filter(SecurityConfigProperties properties) {
+        JwtDecoder jwtDecoder = jwtDecoder(properties);
+        ErrorResponses errorResponses = errorResponses();
+        return new JwtTokenValidationFilter(
+                new JwtDecoderUtil(jwtDecoder, new AuthorityRegistry()),
+                new TokenVerifier(jwtDecoder, new RejectedTokenCache(properties), errorResponses, new TokenRevocationList(RevocationSource.NONE, properties)),
+                new BreadcrumbIdResolver(new TimeOrderedBreadcrumbIdGenerator(), properties),
+                new ClientIpResolver(properties),
+                new ClientIpBinding(properties),
+                new FailedAuthenticationLimiter(properties),
+                new CookieTokenExtractor(properties),
+                new PathClassifier(properties, new AntPathMatcher()),
+                new ErrorResponseWriter(errorResponses),
+                AuthenticationMetrics.NOOP,
+                new AuthenticationAuditLog(properties)
+        );
+    }
+
+    public static MyAccessDeniedHandler accessDeniedHandler() {
+        ErrorResponses errorResponses = errorResponses();
+        return new MyAccessDeniedHandler(new ErrorResponseWriter(errorResponses), errorResponses);
+    }
+
+    public static BloggiosAuthenticationEntryPoint authenticationEntryPoint() {
+        ErrorResponses errorResponses = errorResponses();
+        return new BloggiosAuthenticationEntryPoint(new ErrorResponseWriter(errorResponses), errorResponses);
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.benchmark;
+
+import com.bloggios.authenticationconfig.authentication.AuthorityMaskExpressionRoot;
+import com.bloggios.authenticationconfig.authentication.AuthorityRegistry;
+import com.bloggios.authenticationconfig.authentication.InternedAuthorities;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.access.expression.SecurityExpressionOperations;
+import org.springframework.security.access.expression.SecurityExpressionRoot;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.benchmark
+ * Created_on - 18 October-2026
+ * Created_at - 19 : 05
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorityCheckBenchmark {
+
+    private static final List<String> ROLES = List.of("ROLE_USER", "ROLE_WRITER", "ROLE_REVIEWER", "ROLE_BADGE");
+
+    private Authentication simpleAuthentication;
+    private Authentication internedAuthentication;
+    private InternedAuthorities internedAuthorities;
+
+    @Setup
+    public void setUp() {
+        simpleAuthentication = new UsernamePasswordAuthenticationToken("user-1", null,
+                ROLES.stream().map(SimpleGrantedAuthority::new).toList());
+        internedAuthorities = new AuthorityRegistry().authorities(ROLES);
+        internedAuthentication = new UsernamePasswordAuthenticationToken("user-1", null, internedAuthorities);
+    }
+
+    // A root is created per secured invocation, so each operation starts from a fresh one
+
+    @Benchmark
+    public boolean securityExpressionRoot() {
+        return check(new SecurityExpressionRoot(simpleAuthentication) {
+        });
+    }
+
+    @Benchmark
+    public boolean authorityMaskRoot() {
+        return check(new AuthorityMaskExpressionRoot(null, internedAuthentication, internedAuthorities, "ROLE_"));
+    }
+
+    private boolean check(SecurityExpressionOperations root) {
+        return root.hasRole("USER") && !root.hasAnyRole("ADMIN", "MODERATOR") && root.hasAuthority("ROLE_REVIEWER");
+    }
+}
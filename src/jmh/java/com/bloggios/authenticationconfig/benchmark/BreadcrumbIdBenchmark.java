@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.benchmark;
+
+import com.bloggios.authenticationconfig.authentication.BreadcrumbIdResolver;
+import com.bloggios.authenticationconfig.authentication.TimeOrderedBreadcrumbIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.benchmark
+ * Created_on - 18 October-2026
+ * Created_at - 22 : 40
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class BreadcrumbIdBenchmark {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    private BreadcrumbIdResolver resolver;
+
+    @Setup
+    public void setUp() {
+        resolver = new BreadcrumbIdResolver(new TimeOrderedBreadcrumbIdGenerator(), AuthenticationFixtures.properties(10));
+    }
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String generated() {
+        return resolver.resolve(null, null);
+    }
+
+    @Benchmark
+    public String fromHeader() {
+        return resolver.resolve("bench-breadcrumb", null);
+    }
+
+    @Benchmark
+    public String fromTraceparent() {
+        return resolver.resolve(null, TRACEPARENT);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.benchmark;
+
+import com.bloggios.authenticationconfig.authentication.CookieTokenExtractor;
+import org.apache.tomcat.util.http.MimeHeaders;
+import org.apache.tomcat.util.http.Rfc6265CookieProcessor;
+import org.apache.tomcat.util.http.ServerCookie;
+import org.apache.tomcat.util.http.ServerCookies;
+import org.openjdk.jmh.annotations.*;
+
+import javax.servlet.http.Cookie;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.benchmark
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 10
+ */
+
+/**
+ * Refresh cookie lookup in a header carrying {@code analyticsCookies} other cookies. {@code containerParse} is what
+ * the filter used to pay on Tomcat: the RFC 6265 parse, the {@code Cookie[]} conversion and two stream lookups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CookieTokenExtractorBenchmark {
+
+    @Param({"20"})
+    public int analyticsCookies;
+
+    private CookieTokenExtractor cookieTokenExtractor;
+    private Rfc6265CookieProcessor cookieProcessor;
+    private String header;
+
+    @Setup
+    public void setUp() {
+        cookieTokenExtractor = new CookieTokenExtractor(AuthenticationFixtures.properties(10));
+        cookieProcessor = new Rfc6265CookieProcessor();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < analyticsCookies; i++) {
+            builder.append("_ga_").append(i).append("=GA1.2.").append(1234567890L + i).append(".1700000000; ");
+        }
+        builder.append(AuthenticationFixtures.REFRESH_COOKIE_NAME).append('=')
+                .append(AuthenticationFixtures.token(AuthenticationFixtures.CLIENT_IP, Duration.ofHours(1)));
+        header = builder.toString();
+    }
+
+    @Benchmark
+    public String headerScan() {
+        return cookieTokenExtractor.extract(header).value();
+    }
+
+    @Benchmark
+    public String containerParse() {
+        MimeHeaders headers = new MimeHeaders();
+        headers.addValue("Cookie").setString(header);
+        ServerCookies serverCookies = new ServerCookies(analyticsCookies + 1);
+        cookieProcessor.parseCookieHeader(headers, serverCookies);
+        Cookie[] cookies = new Cookie[serverCookies.getCookieCount()];
+        for (int i = 0; i < cookies.length; i++) {
+            ServerCookie serverCookie = serverCookies.getCookie(i);
+            cookies[i] = new Cookie(serverCookie.getName().toString(), serverCookie.getValue().toString());
+        }
+        Optional<Cookie> access = find(cookies, AuthenticationFixtures.COOKIE_NAME);
+        return access.orElseGet(() -> find(cookies, AuthenticationFixtures.REFRESH_COOKIE_NAME).orElseThrow()).getValue();
+    }
+
+    private static Optional<Cookie> find(Cookie[] cookies, String name) {
+        return Arrays.stream(cookies).filter(cookie -> Objects.equals(cookie.getName(), name)).findFirst();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.benchmark;
+
+import com.bloggios.authenticationconfig.authentication.BloggiosAuthenticationEntryPoint;
+import com.bloggios.authenticationconfig.authentication.JwtTokenValidationFilter;
+import com.bloggios.authenticationconfig.authentication.MyAccessDeniedHandler;
+import com.bloggios.authenticationconfig.constants.ServiceConstants;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.benchmark
+ * Created_on - 18 October-2026
+ * Created_at - 14 : 45
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private static final String FILTERED_ATTRIBUTE = JwtTokenValidationFilter.class.getName() + ".FILTERED";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"true", "false"})
+    public boolean rejectedTokenCache;
+
+    private JwtTokenValidationFilter filter;
+    private MyAccessDeniedHandler accessDeniedHandler;
+    private BloggiosAuthenticationEntryPoint authenticationEntryPoint;
+    private MockHttpServletRequest expiredRequest;
+    private MockHttpServletRequest badSignatureRequest;
+    private MockHttpServletRequest malformedRequest;
+    private MockHttpServletRequest foreignDeviceRequest;
+    private MockHttpServletRequest expiredCookieRequest;
+    private MockHttpServletRequest missingCookieRequest;
+    private MockHttpServletResponse response;
+    private AccessDeniedException accessDeniedException;
+    private InsufficientAuthenticationException authenticationException;
+
+    @Setup
+    public void setUp() {
+        SecurityConfigProperties properties = AuthenticationFixtures.properties(10);
+        properties.getRejectedTokenCache().setEnabled(rejectedTokenCache);
+        filter = AuthenticationFixtures.filter(properties);
+        accessDeniedHandler = AuthenticationFixtures.accessDeniedHandler();
+        authenticationEntryPoint = AuthenticationFixtures.authenticationEntryPoint();
+        String expired = AuthenticationFixtures.token(AuthenticationFixtures.CLIENT_IP, Duration.ofHours(-1));
+        expiredRequest = bearer(expired);
+        badSignatureRequest = bearer(AuthenticationFixtures.token(AuthenticationFixtures.CLIENT_IP, Duration.ofHours(1), AuthenticationFixtures.FOREIGN_KEY_PAIR));
+        malformedRequest = bearer("eyJhbGciOiJSUzI1NiJ9.not-a-token");
+        foreignDeviceRequest = bearer(AuthenticationFixtures.token("198.51.100.77", Duration.ofHours(1)));
+        expiredCookieRequest = JwtTokenValidationFilterBenchmark.request("/data/refresh/token");
+        expiredCookieRequest.setCookies(new Cookie(AuthenticationFixtures.COOKIE_NAME, expired));
+        missingCookieRequest = JwtTokenValidationFilterBenchmark.request("/data/refresh/token");
+        missingCookieRequest.setCookies(new Cookie("_ga", "GA1.2.1234567890.1700000000"));
+        response = new MockHttpServletResponse();
+        accessDeniedException = new AccessDeniedException("Access is denied");
+        authenticationException = new InsufficientAuthenticationException("Full authentication is required");
+    }
+
+    @Benchmark
+    public int expiredToken() throws ServletException, IOException {
+        return invoke(expiredRequest);
+    }
+
+    @Benchmark
+    public int badSignature() throws ServletException, IOException {
+        return invoke(badSignatureRequest);
+    }
+
+    @Benchmark
+    public int malformedToken() throws ServletException, IOException {
+        return invoke(malformedRequest);
+    }
+
+    @Benchmark
+    public int foreignDevice() throws ServletException, IOException {
+        return invoke(foreignDeviceRequest);
+    }
+
+    @Benchmark
+    public int expiredCookie() throws ServletException, IOException {
+        return invoke(expiredCookieRequest);
+    }
+
+    @Benchmark
+    public int missingCookie() throws ServletException, IOException {
+        return invoke(missingCookieRequest);
+    }
+
+    @Benchmark
+    public int accessDenied() throws ServletException, IOException {
+        resetResponse();
+        accessDeniedHandler.handle(malformedRequest, response, accessDeniedException);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int authenticationEntryPoint() throws IOException {
+        resetResponse();
+        authenticationEntryPoint.commence(malformedRequest, response, authenticationException);
+        return response.getStatus();
+    }
+
+    private int invoke(MockHttpServletRequest request) throws ServletException, IOException {
+        request.removeAttribute(FILTERED_ATTRIBUTE);
+        resetResponse();
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+
+    private void resetResponse() {
+        response.setCommitted(false);
+        response.reset();
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = JwtTokenValidationFilterBenchmark.request("/api/v1/blogs/42");
+        request.addHeader(ServiceConstants.AUTHORIZATION, "Bearer " + token);
+        return request;
+    }
+}
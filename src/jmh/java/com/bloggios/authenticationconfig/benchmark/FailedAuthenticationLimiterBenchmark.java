@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.benchmark;
+
+import com.bloggios.authenticationconfig.authentication.FailedAuthenticationLimiter;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.benchmark
+ * Created_on - 18 October-2026
+ * Created_at - 21 : 55
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class FailedAuthenticationLimiterBenchmark {
+
+    private static final int ADDRESSES = 4096;
+
+    private FailedAuthenticationLimiter limiter;
+    private String[] addresses;
+
+    @Setup
+    public void setUp() {
+        SecurityConfigProperties properties = AuthenticationFixtures.properties(10);
+        SecurityConfigProperties.RateLimit rateLimit = properties.getRateLimit();
+        rateLimit.setEnabled(true);
+        rateLimit.setMaxFailures(20);
+        rateLimit.setWindow(Duration.ofMinutes(1));
+        rateLimit.setMaxClients(65536);
+        limiter = new FailedAuthenticationLimiter(properties);
+        addresses = new String[ADDRESSES];
+        for (int i = 0; i < ADDRESSES; i++) {
+            addresses[i] = "198.51." + (i >> 8) + "." + (i & 0xFF);
+        }
+        // Half of the clients are already over the limit
+        for (int i = 0; i < ADDRESSES; i += 2) {
+            for (int j = 0; j < 25; j++) {
+                limiter.recordFailure(addresses[i]);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        int next() {
+            index = (index + 1) & (ADDRESSES - 1);
+            return index;
+        }
+    }
+
+    @Benchmark
+    public boolean isLimited(Cursor cursor) {
+        return limiter.isLimited(addresses[cursor.next()]);
+    }
+
+    @Benchmark
+    public void recordFailure(Cursor cursor) {
+        limiter.recordFailure(addresses[cursor.next()]);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.benchmark;
+
+import com.bloggios.authenticationconfig.authentication.ClientIpBinding;
+import com.bloggios.authenticationconfig.authentication.ClientIpResolver;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.util.IpUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.benchmark
+ * Created_on - 18 October-2026
+ * Created_at - 15 : 20
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IpUtilsBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int hops;
+
+    private MockHttpServletRequest request;
+    private String forwardedFor;
+    private String forwarded;
+    private ClientIpResolver trustedProxyResolver;
+    private ClientIpBinding exactBinding;
+    private ClientIpBinding subnetBinding;
+
+    @Setup
+    public void setUp() {
+        StringBuilder forwardedFor = new StringBuilder(AuthenticationFixtures.CLIENT_IP);
+        StringBuilder forwarded = new StringBuilder("for=").append(AuthenticationFixtures.CLIENT_IP).append(";proto=https");
+        for (int i = 1; i < hops; i++) {
+            forwardedFor.append(", 10.0.").append(i / 256).append('.').append(i % 256);
+            forwarded.append(", for=\"10.0.").append(i / 256).append('.').append(i % 256).append(":8443\"");
+        }
+        this.forwardedFor = forwardedFor.toString();
+        this.forwarded = forwarded.toString();
+        request = new MockHttpServletRequest("GET", "/api/v1/blogs/42");
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Forwarded-For", this.forwardedFor);
+        SecurityConfigProperties properties = AuthenticationFixtures.properties(10);
+        properties.getClientIp().setTrustedProxies(List.of("10.0.0.0/8", "192.168.0.0/16", "fd00::/8"));
+        trustedProxyResolver = new ClientIpResolver(properties);
+        exactBinding = new ClientIpBinding(properties);
+        properties.getClientIp().setIpv4BindingPrefix(24);
+        properties.getClientIp().setIpv6BindingPrefix(64);
+        subnetBinding = new ClientIpBinding(properties);
+    }
+
+    @Benchmark
+    public String remoteAddress() {
+        return IpUtils.getRemoteAddress(request);
+    }
+
+    @Benchmark
+    public String splitFirstHop() {
+        return forwardedFor.split(",")[0].trim();
+    }
+
+    @Benchmark
+    public String trustedProxyForwardedFor() {
+        return trustedProxyResolver.resolve(null, forwardedFor, "10.0.0.1");
+    }
+
+    @Benchmark
+    public String trustedProxyForwarded() {
+        return trustedProxyResolver.resolve(forwarded, null, "10.0.0.1");
+    }
+
+    @Benchmark
+    public boolean exactBindingMappedIpv4() {
+        return exactBinding.matches("::ffff:203.0.113.10", AuthenticationFixtures.CLIENT_IP);
+    }
+
+    @Benchmark
+    public boolean subnetBindingIpv6() {
+        return subnetBinding.matches("2001:db8:85a3:8d3:1319:8a2e:370:7348", "2001:db8:85a3:8d3::1");
+    }
+}
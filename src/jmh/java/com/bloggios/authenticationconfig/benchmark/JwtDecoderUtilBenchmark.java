@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.benchmark;
+
+import com.bloggios.authenticationconfig.authentication.AuthorityRegistry;
+import com.bloggios.authenticationconfig.decoder.DecodeResult;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.util.JwtDecoderUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.benchmark
+ * Created_on - 18 October-2026
+ * Created_at - 15 : 00
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtDecoderUtilBenchmark {
+
+    @Param({"NIMBUS", "FAST"})
+    private SecurityConfigProperties.DecoderType decoder;
+
+    private JwtDecoder jwtDecoder;
+    private JwtDecoderUtil jwtDecoderUtil;
+    private String token;
+    private String expiredToken;
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() {
+        SecurityConfigProperties properties = AuthenticationFixtures.properties(10);
+        properties.getKeyProvider().setDecoder(decoder);
+        jwtDecoder = AuthenticationFixtures.jwtDecoder(properties);
+        jwtDecoderUtil = new JwtDecoderUtil(jwtDecoder, new AuthorityRegistry());
+        token = AuthenticationFixtures.token(AuthenticationFixtures.CLIENT_IP, Duration.ofHours(1));
+        expiredToken = AuthenticationFixtures.token(AuthenticationFixtures.CLIENT_IP, Duration.ofHours(-1));
+        jwt = jwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return jwtDecoder.decode(token);
+    }
+
+    // Expired tokens come back as a result, so this measures verification without exception construction
+    @Benchmark
+    public DecodeResult decodeExpired() {
+        return DecodeResult.decode(jwtDecoder, expiredToken);
+    }
+
+    @Benchmark
+    public void extractClaims(Blackhole blackhole) {
+        blackhole.consume(jwtDecoderUtil.extractUserId(jwt));
+        blackhole.consume(jwtDecoderUtil.extractEmail(jwt));
+        blackhole.consume(jwtDecoderUtil.extractUsername(jwt));
+        blackhole.consume(jwtDecoderUtil.extractBadge(jwt));
+        blackhole.consume(jwtDecoderUtil.extractClientIp(jwt));
+        blackhole.consume(jwtDecoderUtil.extractAuthorities(jwt));
+    }
+
+    @Benchmark
+    public String authenticatedUserId() {
+        return jwtDecoderUtil.extractAuthenticatedUser(jwt).getUserId();
+    }
+}
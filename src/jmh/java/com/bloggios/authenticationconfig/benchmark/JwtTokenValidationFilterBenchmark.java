@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.benchmark;
+
+import com.bloggios.authenticationconfig.authentication.JwtTokenValidationFilter;
+import com.bloggios.authenticationconfig.constants.ServiceConstants;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.benchmark
+ * Created_on - 18 October-2026
+ * Created_at - 14 : 30
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenValidationFilterBenchmark {
+
+    private static final String FILTERED_ATTRIBUTE = JwtTokenValidationFilter.class.getName() + ".FILTERED";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"false", "true"})
+    public boolean tokenCache;
+
+    @Param({"10"})
+    public int excludePathCount;
+
+    private JwtTokenValidationFilter filter;
+    private MockHttpServletRequest bearerRequest;
+    private MockHttpServletRequest cookieRequest;
+    private MockHttpServletRequest excludedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        SecurityConfigProperties properties = AuthenticationFixtures.properties(excludePathCount);
+        properties.getTokenCache().setEnabled(tokenCache);
+        filter = AuthenticationFixtures.filter(properties);
+        String token = AuthenticationFixtures.token(AuthenticationFixtures.CLIENT_IP, Duration.ofHours(1));
+        bearerRequest = request("/api/v1/blogs/42");
+        bearerRequest.addHeader(ServiceConstants.AUTHORIZATION, "Bearer " + token);
+        cookieRequest = request("/data/refresh/token");
+        cookieRequest.setCookies(new Cookie("_ga", "GA1.2.1234567890.1700000000"), new Cookie(AuthenticationFixtures.REFRESH_COOKIE_NAME, token));
+        excludedRequest = request("/api/v1/public/blogs/42");
+        anonymousRequest = request("/api/v1/blogs/42");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public int bearerToken() throws ServletException, IOException {
+        return invoke(bearerRequest);
+    }
+
+    @Benchmark
+    public int refreshCookie() throws ServletException, IOException {
+        return invoke(cookieRequest);
+    }
+
+    @Benchmark
+    public int excludedPath() throws ServletException, IOException {
+        return invoke(excludedRequest);
+    }
+
+    @Benchmark
+    public int anonymous() throws ServletException, IOException {
+        return invoke(anonymousRequest);
+    }
+
+    private int invoke(MockHttpServletRequest request) throws ServletException, IOException {
+        request.removeAttribute(FILTERED_ATTRIBUTE);
+        response.setCommitted(false);
+        response.reset();
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+
+    static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        // The filter classifies servletPath + pathInfo, as a DispatcherServlet mapped to "/" would see it
+        request.setServletPath(uri);
+        request.setRemoteAddr(AuthenticationFixtures.CLIENT_IP);
+        request.addHeader(ServiceConstants.BREADCRUMB_ID, "bench-breadcrumb");
+        return request;
+    }
+}
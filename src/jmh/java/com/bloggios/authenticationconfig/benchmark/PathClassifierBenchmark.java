@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.benchmark;
+
+import com.bloggios.authenticationconfig.authentication.PathClassifier;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.benchmark
+ * Created_on - 18 October-2026
+ * Created_at - 15 : 10
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathClassifierBenchmark {
+
+    private static final String[] URIS = {
+            "/api/v1/blogs/42", "/api/v1/public/blogs/42", "/auth/login", "/data/refresh/token",
+            "/actuator/health", "/api/v1/users/7/followers", "/static/app/main.js", "/api/v1/blogs/42/preview"
+    };
+
+    @Param({"5", "25", "100"})
+    public int excludePathCount;
+
+    private AntPathMatcher antPathMatcher;
+    private List<String> excludePaths;
+    private List<String> cookiePaths;
+    private PathClassifier pathClassifier;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        SecurityConfigProperties properties = AuthenticationFixtures.properties(excludePathCount);
+        antPathMatcher = new AntPathMatcher();
+        excludePaths = properties.getExclude().getPaths();
+        cookiePaths = properties.getCookie().getPaths();
+        pathClassifier = new PathClassifier(properties, antPathMatcher);
+    }
+
+    @Benchmark
+    public boolean antPathMatcherScan() {
+        String uri = nextUri();
+        boolean isExcludePath = excludePaths.stream().anyMatch(pattern -> antPathMatcher.match(pattern, uri));
+        boolean isCookiePath = cookiePaths.stream().anyMatch(pattern -> antPathMatcher.match(pattern, uri));
+        return isExcludePath || isCookiePath;
+    }
+
+    @Benchmark
+    public PathClassifier.PathType pathClassifier() {
+        return pathClassifier.classify(nextUri());
+    }
+
+    private String nextUri() {
+        index = (index + 1) & (URIS.length - 1);
+        return URIS[index];
+    }
+}
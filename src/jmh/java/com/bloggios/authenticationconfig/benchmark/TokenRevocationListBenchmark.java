@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.benchmark;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.revocation.RevokedToken;
+import com.bloggios.authenticationconfig.revocation.TokenRevocationList;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.benchmark
+ * Created_on - 18 October-2026
+ * Created_at - 13 : 30
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenRevocationListBenchmark {
+
+    @Param({"0", "1000", "100000"})
+    private int revokedTokens;
+
+    private TokenRevocationList tokenRevocationList;
+    private Jwt activeJwt;
+    private Jwt revokedJwt;
+
+    @Setup
+    public void setUp() {
+        SecurityConfigProperties properties = AuthenticationFixtures.properties(10);
+        properties.getRevocation().setEnabled(true);
+        JwtDecoder jwtDecoder = AuthenticationFixtures.jwtDecoder(properties);
+        activeJwt = jwtDecoder.decode(AuthenticationFixtures.token(AuthenticationFixtures.CLIENT_IP, Duration.ofHours(1)));
+        revokedJwt = jwtDecoder.decode(AuthenticationFixtures.token(AuthenticationFixtures.CLIENT_IP, Duration.ofMinutes(30)));
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(2));
+        List<RevokedToken> entries = new ArrayList<>(revokedTokens);
+        for (int i = 0; i < revokedTokens; i++) {
+            entries.add(i % 2 == 0
+                    ? RevokedToken.ofTokenId(UUID.randomUUID().toString(), expiresAt)
+                    : RevokedToken.ofSubject(UUID.randomUUID().toString(), Instant.now(), expiresAt));
+        }
+        if (revokedTokens > 0) {
+            entries.set(0, RevokedToken.ofSubject(revokedJwt.getSubject(), revokedJwt.getIssuedAt(), expiresAt));
+        }
+        tokenRevocationList = new TokenRevocationList(() -> entries, properties);
+    }
+
+    @TearDown
+    public void tearDown() {
+        tokenRevocationList.destroy();
+    }
+
+    // The happy path: a token that is not revoked, answered by the Bloom filter
+    @Benchmark
+    public boolean active() {
+        return tokenRevocationList.isRevoked(activeJwt);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return tokenRevocationList.isRevoked(revokedJwt);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.benchmark;
+
+import com.bloggios.authenticationconfig.authentication.JwtTokenValidationFilter;
+import com.bloggios.authenticationconfig.authentication.RequestBoundSecurityContextHolderStrategy;
+import com.bloggios.authenticationconfig.constants.ServiceConstants;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.util.VirtualThreads;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.benchmark
+ * Created_on - 18 October-2026
+ * Created_at - 21 : 55
+ */
+
+/**
+ * Load test for the servlet filter: one operation is a burst of {@code concurrency} requests, each authenticated by
+ * the filter and then blocking in the downstream chain for {@code downstreamMillis}, the way a controller waits on a
+ * database. {@code PLATFORM} runs them on a fixed pool the size of Tomcat's default, {@code VIRTUAL} on one virtual
+ * thread per request with the request-bound security context installed and needs Java 21. The JVM's peak live platform
+ * thread count, carrier threads included, is printed when each trial ends.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+
+    public enum ExecutorType {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ExecutorType executor;
+
+    @Param({"200"})
+    public int platformThreads;
+
+    @Param({"1000"})
+    public int concurrency;
+
+    @Param({"20"})
+    public int downstreamMillis;
+
+    private JwtTokenValidationFilter filter;
+    private String authorization;
+    private ExecutorService executorService;
+    private FilterChain blockingChain;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    @Setup
+    public void setUp() {
+        SecurityConfigProperties properties = AuthenticationFixtures.properties(10);
+        properties.getTokenCache().setEnabled(true);
+        filter = AuthenticationFixtures.filter(properties);
+        authorization = "Bearer " + AuthenticationFixtures.token(AuthenticationFixtures.CLIENT_IP, Duration.ofHours(1));
+        blockingChain = (request, response) -> {
+            try {
+                Thread.sleep(downstreamMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        if (executor == ExecutorType.VIRTUAL) {
+            executorService = VirtualThreads.newVirtualThreadPerTaskExecutor()
+                    .orElseThrow(() -> new IllegalStateException("VIRTUAL needs Java 21, running on " + Runtime.version()));
+            RequestBoundSecurityContextHolderStrategy.install();
+        } else {
+            executorService = Executors.newFixedThreadPool(platformThreads);
+        }
+        threadMXBean.resetPeakThreadCount();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        System.out.printf("%n%s: peak live platform threads %d%n", executor, threadMXBean.getPeakThreadCount());
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_THREADLOCAL);
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        List<Future<Integer>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            responses.add(executorService.submit(this::handle));
+        }
+        int ok = 0;
+        for (Future<Integer> response : responses) {
+            if (response.get() == 200) {
+                ok++;
+            }
+        }
+        return ok;
+    }
+
+    private int handle() throws Exception {
+        MockHttpServletRequest request = JwtTokenValidationFilterBenchmark.request("/api/v1/blogs/42");
+        request.addHeader(ServiceConstants.AUTHORIZATION, authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, blockingChain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response.getStatus();
+    }
+}
@@ -1,16 +0,0 @@
-package com.bloggios.authenticationconfig;
-
-import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
-
-import java.util.TimeZone;
-
-@SpringBootApplication(scanBasePackages = "com.bloggios.authenticationconfig")
-public class AuthenticationConfigurationJarApplication {
-
-    public static void main(String[] args) {
-        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
-        SpringApplication.run(AuthenticationConfigurationJarApplication.class, args);
-    }
-
-}
@@ -0,0 +1,375 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.audit;
+
+import com.bloggios.authenticationconfig.authentication.AuthenticationMode;
+import com.bloggios.authenticationconfig.authentication.AuthenticationOutcome;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.audit
+ * Created_on - 18 October-2026
+ * Created_at - 22 : 00
+ */
+
+/**
+ * Audit trail of every authentication decision. Request threads claim a slot of a preallocated ring with one CAS and
+ * copy their references into it, nothing is locked or allocated on the request path. A single writer thread drains the
+ * ring in batches, encodes one line per event into a reused direct buffer and appends it to a rolling file through a
+ * {@link java.nio.channels.FileChannel}. A full ring drops the event, or first waits up to max-block with the BLOCK
+ * overflow policy; every event ends up counted as written, dropped or failed.
+ *
+ * <p>Lines are tab separated: {@code epoch-millis outcome mode user-id client-ip breadcrumb-id}, with {@code -} for a
+ * missing value. Fields are capped at 128 characters and whitespace or control characters in them become {@code _},
+ * so a crafted header cannot forge or split lines.
+ */
+public class AuthenticationAuditLog implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthenticationAuditLog.class);
+    private static final int MAX_FIELD_LENGTH = 128;
+    // Timestamp and tags fit in 64 bytes, fields take at most four bytes per char
+    private static final int MAX_LINE_BYTES = 64 + 3 * (1 + MAX_FIELD_LENGTH * 4);
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    private static final byte TAB = '\t';
+    private static final byte NEWLINE = '\n';
+    private static final byte MISSING = '-';
+    private static final byte REPLACEMENT = '_';
+    private static final byte[][] OUTCOME_TAGS = tags(AuthenticationOutcome.values());
+    private static final byte[][] MODE_TAGS = tags(AuthenticationMode.values());
+
+    private final boolean enabled;
+    private final boolean blockWhenFull;
+    private final long maxBlockNanos;
+    private final int batchSize;
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final RollingAuditFile file;
+    private final Thread writer;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile boolean running = true;
+    // Owned by the writer thread
+    private final byte[] digits = new byte[20];
+    private long tail;
+    private boolean failing;
+
+    public AuthenticationAuditLog(
+            SecurityConfigProperties securityConfigProperties
+    ) {
+        this(securityConfigProperties, null);
+    }
+
+    // Tests hand in their own file to stall the writer
+    AuthenticationAuditLog(
+            SecurityConfigProperties securityConfigProperties,
+            RollingAuditFile rollingAuditFile
+    ) {
+        SecurityConfigProperties.Audit properties = securityConfigProperties.getAudit();
+        this.enabled = properties.isEnabled();
+        this.blockWhenFull = properties.getOverflow() == SecurityConfigProperties.OverflowPolicy.BLOCK;
+        this.maxBlockNanos = properties.getMaxBlock().toNanos();
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        if (!enabled) {
+            this.slots = null;
+            this.mask = 0;
+            this.file = null;
+            this.writer = null;
+            return;
+        }
+        int capacity = properties.getBufferSize();
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("security-config.audit.buffer-size must be a power of two, was " + capacity);
+        }
+        this.slots = new Slot[capacity];
+        for (int index = 0; index < capacity; index++) {
+            slots[index] = new Slot(index);
+        }
+        this.mask = capacity - 1;
+        try {
+            this.file = rollingAuditFile != null
+                    ? rollingAuditFile
+                    : new RollingAuditFile(Path.of(properties.getFile()), properties.getMaxFileSize().toBytes(), properties.getMaxHistory());
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to open the authentication audit log " + properties.getFile() + " : " + e.getMessage(), e);
+        }
+        this.writer = new Thread(this::drain, "bloggios-audit-writer");
+        writer.setDaemon(true);
+        // Created while Tomcat starts, the inherited webapp class loader would be pinned until the bean is destroyed
+        writer.setContextClassLoader(AuthenticationAuditLog.class.getClassLoader());
+        writer.start();
+        logger.info("Authentication audit log writing to {} through a ring of {} events, {} when full", file.getPath(), capacity, properties.getOverflow());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Publishes one decision. Returns false when the event was dropped because the writer is a whole ring behind or
+     * the log has been destroyed.
+     */
+    public boolean record(AuthenticationMode mode, AuthenticationOutcome outcome, String userId, String clientIp, String breadcrumbId) {
+        if (!enabled) {
+            return false;
+        }
+        // The writer is gone or about to go, nothing published now would reach the file
+        if (!running) {
+            dropped.increment();
+            return false;
+        }
+        boolean waiting = false;
+        long deadline = 0L;
+        while (true) {
+            long position = head.get();
+            Slot slot = slots[(int) position & mask];
+            long lag = slot.sequence - position;
+            if (lag == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    slot.timestamp = System.currentTimeMillis();
+                    slot.mode = mode;
+                    slot.outcome = outcome;
+                    slot.userId = userId;
+                    slot.clientIp = clientIp;
+                    slot.breadcrumbId = breadcrumbId;
+                    // The volatile write hands the fields above to the writer
+                    slot.sequence = position + 1;
+                    published.increment();
+                    return true;
+                }
+            } else if (lag < 0) {
+                if (!blockWhenFull) {
+                    dropped.increment();
+                    return false;
+                }
+                long now = System.nanoTime();
+                if (!waiting) {
+                    waiting = true;
+                    deadline = now + maxBlockNanos;
+                    // The writer may be in its idle park, which is longer than a typical max-block
+                    LockSupport.unpark(writer);
+                } else if (now - deadline >= 0) {
+                    dropped.increment();
+                    return false;
+                }
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            }
+            // A positive lag means another thread claimed this position first, retry with the new head
+        }
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    // Events published but not yet written or failed, approximate while requests are in flight
+    public long getBacklog() {
+        return Math.max(0, published.sum() - written.sum() - failed.sum());
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+    }
+
+    private void drain() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+        while (true) {
+            if (drainBatch(buffer) == 0) {
+                // Checked only on an empty ring, so events published before shutdown are still written
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        try {
+            file.close();
+        } catch (IOException e) {
+            logger.warn("Unable to close the authentication audit log {} : {}", file.getPath(), e.getMessage());
+        }
+    }
+
+    private int drainBatch(ByteBuffer buffer) {
+        int drained = 0;
+        int pending = 0;
+        while (drained < batchSize) {
+            Slot slot = slots[(int) tail & mask];
+            if (slot.sequence != tail + 1) {
+                break;
+            }
+            if (buffer.remaining() < MAX_LINE_BYTES) {
+                flush(buffer, pending);
+                pending = 0;
+            }
+            encode(slot, buffer);
+            slot.userId = null;
+            slot.clientIp = null;
+            slot.breadcrumbId = null;
+            // Hands the slot back to producers for the next lap of the ring
+            slot.sequence = tail + slots.length;
+            tail++;
+            drained++;
+            pending++;
+        }
+        if (pending > 0) {
+            flush(buffer, pending);
+        }
+        return drained;
+    }
+
+    private void flush(ByteBuffer buffer, int lines) {
+        buffer.flip();
+        try {
+            file.write(buffer);
+            written.add(lines);
+            if (failing) {
+                failing = false;
+                logger.info("Authentication audit log {} is writable again", file.getPath());
+            }
+        } catch (IOException e) {
+            failed.add(lines);
+            if (!failing) {
+                failing = true;
+                logger.warn("Unable to write the authentication audit log {}, events are counted as failed until it recovers : {}", file.getPath(), e.getMessage());
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private void encode(Slot slot, ByteBuffer buffer) {
+        putTimestamp(buffer, slot.timestamp);
+        buffer.put(TAB).put(OUTCOME_TAGS[slot.outcome.ordinal()]);
+        buffer.put(TAB).put(MODE_TAGS[slot.mode.ordinal()]);
+        putField(buffer, slot.userId);
+        putField(buffer, slot.clientIp);
+        putField(buffer, slot.breadcrumbId);
+        buffer.put(NEWLINE);
+    }
+
+    private void putTimestamp(ByteBuffer buffer, long value) {
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        buffer.put(digits, position, digits.length - position);
+    }
+
+    // UTF-8 by hand, String.getBytes would allocate a copy for every field of every event
+    private static void putField(ByteBuffer buffer, String value) {
+        buffer.put(TAB);
+        if (value == null || value.isEmpty()) {
+            buffer.put(MISSING);
+            return;
+        }
+        int length = Math.min(value.length(), MAX_FIELD_LENGTH);
+        for (int index = 0; index < length; index++) {
+            char character = value.charAt(index);
+            if (character < 0x80) {
+                buffer.put(character <= ' ' || character == 0x7f ? REPLACEMENT : (byte) character);
+            } else if (character <= 0x9f) {
+                buffer.put(REPLACEMENT);
+            } else if (character < 0x800) {
+                buffer.put((byte) (0xc0 | character >> 6));
+                buffer.put((byte) (0x80 | character & 0x3f));
+            } else if (Character.isHighSurrogate(character) && index + 1 < length && Character.isLowSurrogate(value.charAt(index + 1))) {
+                int codePoint = Character.toCodePoint(character, value.charAt(++index));
+                buffer.put((byte) (0xf0 | codePoint >> 18));
+                buffer.put((byte) (0x80 | codePoint >> 12 & 0x3f));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3f));
+                buffer.put((byte) (0x80 | codePoint & 0x3f));
+            } else if (Character.isSurrogate(character)) {
+                buffer.put(REPLACEMENT);
+            } else {
+                buffer.put((byte) (0xe0 | character >> 12));
+                buffer.put((byte) (0x80 | character >> 6 & 0x3f));
+                buffer.put((byte) (0x80 | character & 0x3f));
+            }
+        }
+    }
+
+    private static byte[][] tags(Enum<?>[] values) {
+        byte[][] tags = new byte[values.length][];
+        for (Enum<?> value : values) {
+            tags[value.ordinal()] = value.name().toLowerCase(Locale.ROOT).replace('_', '-').getBytes(StandardCharsets.US_ASCII);
+        }
+        return tags;
+    }
+
+    // Sequence equal to the position means free for that lap, position + 1 means published and ready to write
+    private static final class Slot {
+
+        private volatile long sequence;
+        private long timestamp;
+        private AuthenticationMode mode;
+        private AuthenticationOutcome outcome;
+        private String userId;
+        private String clientIp;
+        private String breadcrumbId;
+
+        private Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.audit
+ * Created_on - 18 October-2026
+ * Created_at - 22 : 15
+ */
+
+/**
+ * Append-only audit file that rolls over by size: the full file becomes {@code <file>.1}, older archives shift up by
+ * one and the oldest beyond max history is deleted. Only the audit writer thread touches it.
+ */
+class RollingAuditFile implements Closeable {
+
+    private final Path path;
+    private final long maxFileSize;
+    private final int maxHistory;
+    private FileChannel channel;
+    private long size;
+
+    RollingAuditFile(
+            Path path,
+            long maxFileSize,
+            int maxHistory
+    ) throws IOException {
+        this.path = path.toAbsolutePath();
+        this.maxFileSize = maxFileSize;
+        this.maxHistory = maxHistory;
+        Path parent = this.path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        open();
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    void write(ByteBuffer buffer) throws IOException {
+        try {
+            if (channel == null) {
+                open();
+            }
+            if (size > 0 && size + buffer.remaining() > maxFileSize) {
+                roll();
+            }
+            while (buffer.hasRemaining()) {
+                size += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            // Reopened on the next batch, which also recovers from the file being moved away underneath us
+            closeQuietly();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void roll() throws IOException {
+        close();
+        if (maxHistory <= 0) {
+            Files.deleteIfExists(path);
+        } else {
+            Files.deleteIfExists(archive(maxHistory));
+            for (int index = maxHistory - 1; index >= 1; index--) {
+                Path archive = archive(index);
+                if (Files.exists(archive)) {
+                    Files.move(archive, archive(index + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(path, archive(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        size = channel.size();
+    }
+
+    private Path archive(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {
+            channel = null;
+        }
+    }
+}
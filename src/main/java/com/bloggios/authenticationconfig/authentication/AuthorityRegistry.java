@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 18 : 20
+ */
+
+/**
+ * Canonical {@link SimpleGrantedAuthority} instances and the immutable collections built from them, keyed by the
+ * raw {@code authority} claim. The first 64 distinct authorities also get a bit, so {@link InternedAuthorities} can
+ * answer role checks with a mask test.
+ */
+public class AuthorityRegistry {
+
+    static final int MAX_BITS = Long.SIZE;
+    static final int MAX_AUTHORITIES = 1024;
+    static final int MAX_COLLECTIONS = 4096;
+
+    private final Map<String, Interned> authorities = new ConcurrentHashMap<>();
+    private final Map<List<String>, InternedAuthorities> collections = new ConcurrentHashMap<>();
+    private final AtomicInteger nextBit = new AtomicInteger();
+
+    public InternedAuthorities authorities(List<String> names) {
+        InternedAuthorities cached = collections.get(names);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> key = new ArrayList<>(names.size());
+        List<SimpleGrantedAuthority> granted = new ArrayList<>(names.size());
+        long mask = 0;
+        boolean unindexed = false;
+        for (String name : names) {
+            Interned interned = intern(name);
+            key.add(interned.authority().getAuthority());
+            granted.add(interned.authority());
+            if (interned.bit() >= 0) {
+                mask |= 1L << interned.bit();
+            } else {
+                unindexed = true;
+            }
+        }
+        InternedAuthorities created = new InternedAuthorities(this, List.copyOf(granted), mask, unindexed);
+        if (collections.size() < MAX_COLLECTIONS) {
+            InternedAuthorities existing = collections.putIfAbsent(List.copyOf(key), created);
+            return existing != null ? existing : created;
+        }
+        return created;
+    }
+
+    public SimpleGrantedAuthority authority(String name) {
+        return intern(name).authority();
+    }
+
+    /**
+     * @return the bit assigned to {@code name}, or -1 if it has none
+     */
+    public int bit(String name) {
+        Interned interned = name != null ? authorities.get(name) : null;
+        return interned != null ? interned.bit() : -1;
+    }
+
+    public int size() {
+        return authorities.size();
+    }
+
+    private Interned intern(String name) {
+        if (name == null) {
+            // SimpleGrantedAuthority rejects it with the same message the uncached path produced
+            return new Interned(new SimpleGrantedAuthority(null), -1);
+        }
+        Interned interned = authorities.get(name);
+        if (interned != null) {
+            return interned;
+        }
+        if (authorities.size() >= MAX_AUTHORITIES) {
+            return new Interned(new SimpleGrantedAuthority(name), -1);
+        }
+        return authorities.computeIfAbsent(name, key -> {
+            int bit = nextBit.getAndIncrement();
+            return new Interned(new SimpleGrantedAuthority(key), bit < MAX_BITS ? bit : -1);
+        });
+    }
+
+    private record Interned(SimpleGrantedAuthority authority, int bit) {
+    }
+}
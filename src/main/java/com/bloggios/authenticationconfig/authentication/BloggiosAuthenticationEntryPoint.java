@@ -25,7 +25,6 @@ package com.bloggios.authenticationconfig.authentication;
 
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
-import org.springframework.stereotype.Component;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -40,12 +39,21 @@ import java.io.IOException;
  * Created_at - 18 : 28
  */
 
-@Component
 public class BloggiosAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
+    private final ErrorResponseWriter errorResponseWriter;
+    private final ErrorResponses errorResponses;
+
+    public BloggiosAuthenticationEntryPoint(
+            ErrorResponseWriter errorResponseWriter,
+            ErrorResponses errorResponses
+    ) {
+        this.errorResponseWriter = errorResponseWriter;
+        this.errorResponses = errorResponses;
+    }
+
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException {
-        response.sendError(HttpServletResponse.SC_UNAUTHORIZED,
-                "Unauthorized");
+        errorResponseWriter.write(response, errorResponses.getUnauthorized());
     }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 22 : 30
+ */
+
+/**
+ * Picks the breadcrumb id of a request: a well-formed {@code breadcrumbId} header wins, then the trace id of a valid
+ * W3C {@code traceparent} header, so a trace keeps one id across services, and only then a generated id. Incoming
+ * ids are bounded in length and limited to {@code [A-Za-z0-9._:-]} because they end up in every log line.
+ */
+public class BreadcrumbIdResolver {
+
+    private static final int TRACEPARENT_LENGTH = 55;
+    private static final int TRACE_ID_START = 3;
+    private static final int TRACE_ID_END = 35;
+    private static final int PARENT_ID_END = 52;
+
+    private final BreadcrumbIdGenerator breadcrumbIdGenerator;
+    private final int maxLength;
+    private final boolean traceparent;
+
+    public BreadcrumbIdResolver(
+            BreadcrumbIdGenerator breadcrumbIdGenerator,
+            SecurityConfigProperties securityConfigProperties
+    ) {
+        this.breadcrumbIdGenerator = breadcrumbIdGenerator;
+        this.maxLength = securityConfigProperties.getBreadcrumb().getMaxLength();
+        this.traceparent = securityConfigProperties.getBreadcrumb().isTraceparent();
+    }
+
+    public String resolve(String breadcrumbId, String traceparentHeader) {
+        if (isValidBreadcrumbId(breadcrumbId)) {
+            return breadcrumbId;
+        }
+        if (traceparent && isValidTraceparent(traceparentHeader)) {
+            return traceparentHeader.substring(TRACE_ID_START, TRACE_ID_END);
+        }
+        return breadcrumbIdGenerator.generate();
+    }
+
+    private boolean isValidBreadcrumbId(String breadcrumbId) {
+        if (breadcrumbId == null || breadcrumbId.isEmpty() || breadcrumbId.length() > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < breadcrumbId.length(); i++) {
+            char c = breadcrumbId.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == ':';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // version "-" trace-id "-" parent-id "-" flags, lower case hex; later versions may append "-" and more fields
+    private static boolean isValidTraceparent(String value) {
+        if (value == null || value.length() < TRACEPARENT_LENGTH) {
+            return false;
+        }
+        if (!isHex(value, 0, 2) || (value.charAt(0) == 'f' && value.charAt(1) == 'f')) {
+            return false;
+        }
+        boolean version00 = value.charAt(0) == '0' && value.charAt(1) == '0';
+        if (version00 ? value.length() != TRACEPARENT_LENGTH : value.length() > TRACEPARENT_LENGTH && value.charAt(TRACEPARENT_LENGTH) != '-') {
+            return false;
+        }
+        return value.charAt(2) == '-' && value.charAt(TRACE_ID_END) == '-' && value.charAt(PARENT_ID_END) == '-'
+                && isHex(value, TRACE_ID_START, TRACE_ID_END) && !isZero(value, TRACE_ID_START, TRACE_ID_END)
+                && isHex(value, TRACE_ID_END + 1, PARENT_ID_END) && !isZero(value, TRACE_ID_END + 1, PARENT_ID_END)
+                && isHex(value, PARENT_ID_END + 1, TRACEPARENT_LENGTH);
+    }
+
+    private static boolean isHex(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isZero(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.util.IpAddresses;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 20 : 50
+ */
+
+/**
+ * Decides whether a request address matches the {@code remoteAddress} a token was issued to. Both are compared as
+ * numbers under the configured prefix lengths, so {@code ::ffff:10.0.0.1} matches {@code 10.0.0.1} and
+ * {@code 0:0:0:0:0:0:0:1} matches {@code ::1}. Values that are not IP literals only match themselves.
+ */
+public class ClientIpBinding {
+
+    private static final long IPV4_MAPPED_PREFIX = 0xFFFFL << 32;
+
+    private final long ipv4Mask;
+    private final long ipv6HighMask;
+    private final long ipv6LowMask;
+
+    public ClientIpBinding(
+            SecurityConfigProperties securityConfigProperties
+    ) {
+        SecurityConfigProperties.ClientIp clientIp = securityConfigProperties.getClientIp();
+        int ipv4Prefix = clientIp.getIpv4BindingPrefix();
+        int ipv6Prefix = clientIp.getIpv6BindingPrefix();
+        if (ipv4Prefix < 0 || ipv4Prefix > 32) {
+            throw new IllegalArgumentException("security-config.client-ip.ipv4-binding-prefix must be between 0 and 32");
+        }
+        if (ipv6Prefix < 0 || ipv6Prefix > 128) {
+            throw new IllegalArgumentException("security-config.client-ip.ipv6-binding-prefix must be between 0 and 128");
+        }
+        this.ipv4Mask = IpAddresses.ipv4Mask(ipv4Prefix);
+        this.ipv6HighMask = IpAddresses.ipv6HighMask(ipv6Prefix);
+        this.ipv6LowMask = IpAddresses.ipv6LowMask(ipv6Prefix);
+    }
+
+    public boolean matches(String tokenAddress, String requestAddress) {
+        if (tokenAddress == null || requestAddress == null) {
+            return false;
+        }
+        if (tokenAddress.equals(requestAddress)) {
+            return true;
+        }
+        if (!isAddress(tokenAddress) || !isAddress(requestAddress)) {
+            return false;
+        }
+        // IPv4 is compared in its IPv4-mapped IPv6 form
+        long tokenHigh = high(tokenAddress);
+        long tokenLow = low(tokenAddress);
+        long requestHigh = high(requestAddress);
+        long requestLow = low(requestAddress);
+        boolean tokenIpv4 = isMappedIpv4(tokenHigh, tokenLow);
+        if (tokenIpv4 != isMappedIpv4(requestHigh, requestLow)) {
+            return false;
+        }
+        if (tokenIpv4) {
+            return ((tokenLow ^ requestLow) & ipv4Mask) == 0;
+        }
+        long high = tokenHigh ^ requestHigh;
+        long low = tokenLow ^ requestLow;
+        return (high & ipv6HighMask) == 0 && (low & ipv6LowMask) == 0;
+    }
+
+    private static boolean isAddress(String address) {
+        return IpAddresses.hasColon(address, 0, address.length())
+                ? IpAddresses.isIpv6(address, 0, address.length())
+                : IpAddresses.parseIpv4(address, 0, address.length()) >= 0;
+    }
+
+    private static long high(String address) {
+        return IpAddresses.hasColon(address, 0, address.length()) ? IpAddresses.ipv6High(address, 0, address.length()) : 0;
+    }
+
+    private static long low(String address) {
+        return IpAddresses.hasColon(address, 0, address.length())
+                ? IpAddresses.ipv6Low(address, 0, address.length())
+                : IPV4_MAPPED_PREFIX | IpAddresses.parseIpv4(address, 0, address.length());
+    }
+
+    private static boolean isMappedIpv4(long high, long low) {
+        return high == 0 && (low & ~0xFFFFFFFFL) == IPV4_MAPPED_PREFIX;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.util.CidrSet;
+import com.bloggios.authenticationconfig.util.IpUtils;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 20 : 10
+ */
+
+/**
+ * Resolves the client address of a request. Without trusted proxies the first {@code X-Forwarded-For} hop is used,
+ * as before. With trusted proxies the forwarding headers are only honoured when the peer is one of them, and the
+ * chain is walked from the right, skipping trusted hops, so a client cannot choose its own address by prepending
+ * entries. Header values are scanned in place; only the returned address is allocated.
+ */
+public class ClientIpResolver {
+
+    private static final long NONE = -1;
+
+    private final CidrSet trustedProxies;
+    private final boolean forwardedHeader;
+
+    public ClientIpResolver(
+            SecurityConfigProperties securityConfigProperties
+    ) {
+        SecurityConfigProperties.ClientIp clientIp = securityConfigProperties.getClientIp();
+        this.trustedProxies = CidrSet.of(clientIp.getTrustedProxies());
+        this.forwardedHeader = clientIp.isForwardedHeader();
+    }
+
+    public boolean hasTrustedProxies() {
+        return !trustedProxies.isEmpty();
+    }
+
+    public String resolve(String forwarded, String forwardedFor, String remoteAddress) {
+        if (trustedProxies.isEmpty()) {
+            return IpUtils.getRemoteAddress(forwardedFor, remoteAddress);
+        }
+        if (remoteAddress == null || !trustedProxies.contains(remoteAddress)) {
+            return remoteAddress;
+        }
+        if (forwardedHeader && forwarded != null) {
+            String clientIp = fromForwarded(forwarded);
+            if (clientIp != null) {
+                return clientIp;
+            }
+        }
+        if (forwardedFor != null) {
+            String clientIp = fromForwardedFor(forwardedFor);
+            if (clientIp != null) {
+                return clientIp;
+            }
+        }
+        return remoteAddress;
+    }
+
+    private String fromForwardedFor(String header) {
+        long leftmost = NONE;
+        int end = header.length();
+        while (end >= 0) {
+            int comma = header.lastIndexOf(',', end - 1);
+            long range = normalize(header, comma + 1, end);
+            if (range != NONE) {
+                if (!trustedProxies.contains(header, from(range), to(range))) {
+                    return substring(header, range);
+                }
+                leftmost = range;
+            }
+            end = comma;
+        }
+        return leftmost == NONE ? null : substring(header, leftmost);
+    }
+
+    // RFC 7239: elements are separated by commas and parameters by semicolons, either may appear inside quotes
+    private String fromForwarded(String header) {
+        long leftmost = NONE;
+        int end = header.length();
+        boolean quoted = false;
+        for (int i = end - 1; i >= -1; i--) {
+            char c = i < 0 ? ',' : header.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                long range = forParameter(header, i + 1, end);
+                if (range != NONE) {
+                    if (!trustedProxies.contains(header, from(range), to(range))) {
+                        return substring(header, range);
+                    }
+                    leftmost = range;
+                }
+                end = i;
+            }
+        }
+        return leftmost == NONE ? null : substring(header, leftmost);
+    }
+
+    private static long forParameter(String header, int from, int to) {
+        int start = from;
+        boolean quoted = false;
+        for (int i = from; i <= to; i++) {
+            char c = i == to ? ';' : header.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ';' && !quoted) {
+                int nameStart = skipWhitespace(header, start, i);
+                if (i - nameStart > 4
+                        && header.regionMatches(true, nameStart, "for", 0, 3)
+                        && header.charAt(nameStart + 3) == '=') {
+                    return normalize(header, nameStart + 4, i);
+                }
+                start = i + 1;
+            }
+        }
+        return NONE;
+    }
+
+    // Trims whitespace and quotes, then drops IPv6 brackets and any port
+    private static long normalize(String s, int from, int to) {
+        from = skipWhitespace(s, from, to);
+        while (to > from && isWhitespace(s.charAt(to - 1))) {
+            to--;
+        }
+        if (to - from >= 2 && s.charAt(from) == '"' && s.charAt(to - 1) == '"') {
+            from++;
+            to--;
+        }
+        if (from < to && s.charAt(from) == '[') {
+            int close = s.indexOf(']', from);
+            if (close < 0 || close >= to) {
+                return NONE;
+            }
+            from++;
+            to = close;
+        } else {
+            int colon = -1;
+            for (int i = from; i < to; i++) {
+                if (s.charAt(i) == ':') {
+                    if (colon >= 0) {
+                        colon = -1;
+                        break;
+                    }
+                    colon = i;
+                }
+            }
+            if (colon >= 0) {
+                to = colon;
+            }
+        }
+        return from < to ? ((long) from << 32) | to : NONE;
+    }
+
+    private static int skipWhitespace(String s, int from, int to) {
+        while (from < to && isWhitespace(s.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    private static int from(long range) {
+        return (int) (range >>> 32);
+    }
+
+    private static int to(long range) {
+        return (int) range;
+    }
+
+    private static String substring(String s, long range) {
+        int from = from(range);
+        int to = to(range);
+        return from == 0 && to == s.length() ? s : s.substring(from, to);
+    }
+}
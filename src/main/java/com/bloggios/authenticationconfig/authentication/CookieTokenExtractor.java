@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 22 : 55
+ */
+
+/**
+ * Finds the access and refresh token cookies in one pass over the raw {@code Cookie} header(s), without the container
+ * parsing every cookie of the request into objects. Only the value that is returned gets allocated. The access cookie
+ * wins over the refresh cookie and the first occurrence of a name wins, like {@code getCookies()} lookups did.
+ */
+public class CookieTokenExtractor {
+
+    private final String cookieName;
+    private final String refreshCookieName;
+
+    public CookieTokenExtractor(
+            SecurityConfigProperties securityConfigProperties
+    ) {
+        SecurityConfigProperties.Cookie cookie = securityConfigProperties.getCookie();
+        this.cookieName = cookie == null ? null : cookie.getCookieName();
+        this.refreshCookieName = cookie == null ? null : cookie.getRefreshCookieName();
+    }
+
+    public CookieToken extract(String header) {
+        return header == null ? null : scan(header);
+    }
+
+    // HTTP/2 clients may send one Cookie header per cookie
+    public CookieToken extract(Enumeration<String> headers) {
+        CookieToken refresh = null;
+        while (headers != null && headers.hasMoreElements()) {
+            CookieToken cookieToken = extract(headers.nextElement());
+            if (cookieToken != null) {
+                if (cookieToken.mode() == AuthenticationMode.COOKIE) {
+                    return cookieToken;
+                }
+                if (refresh == null) {
+                    refresh = cookieToken;
+                }
+            }
+        }
+        return refresh;
+    }
+
+    public CookieToken extract(List<String> headers) {
+        CookieToken refresh = null;
+        if (headers != null) {
+            for (String header : headers) {
+                CookieToken cookieToken = extract(header);
+                if (cookieToken != null) {
+                    if (cookieToken.mode() == AuthenticationMode.COOKIE) {
+                        return cookieToken;
+                    }
+                    if (refresh == null) {
+                        refresh = cookieToken;
+                    }
+                }
+            }
+        }
+        return refresh;
+    }
+
+    private CookieToken scan(String header) {
+        int refreshStart = -1;
+        int refreshEnd = -1;
+        int length = header.length();
+        int i = 0;
+        while (i < length) {
+            int nameStart = skipWhitespace(header, i, length);
+            int separator = nameStart;
+            while (separator < length && header.charAt(separator) != '=' && header.charAt(separator) != ';') {
+                separator++;
+            }
+            int pairEnd = separator;
+            while (pairEnd < length && header.charAt(pairEnd) != ';') {
+                pairEnd++;
+            }
+            if (separator < length && header.charAt(separator) == '=') {
+                int nameEnd = trimEnd(header, nameStart, separator);
+                int valueStart = skipWhitespace(header, separator + 1, pairEnd);
+                int valueEnd = trimEnd(header, valueStart, pairEnd);
+                if (valueEnd - valueStart >= 2 && header.charAt(valueStart) == '"' && header.charAt(valueEnd - 1) == '"') {
+                    valueStart++;
+                    valueEnd--;
+                }
+                if (matches(header, nameStart, nameEnd, cookieName)) {
+                    return new CookieToken(header.substring(valueStart, valueEnd), AuthenticationMode.COOKIE);
+                }
+                if (refreshStart < 0 && matches(header, nameStart, nameEnd, refreshCookieName)) {
+                    refreshStart = valueStart;
+                    refreshEnd = valueEnd;
+                }
+            }
+            i = pairEnd + 1;
+        }
+        return refreshStart < 0 ? null : new CookieToken(header.substring(refreshStart, refreshEnd), AuthenticationMode.REFRESH_COOKIE);
+    }
+
+    private static boolean matches(String header, int from, int to, String name) {
+        return name != null && to - from == name.length() && header.regionMatches(from, name, 0, name.length());
+    }
+
+    private static int skipWhitespace(String header, int from, int to) {
+        while (from < to && (header.charAt(from) == ' ' || header.charAt(from) == '\t')) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimEnd(String header, int from, int to) {
+        while (to > from && (header.charAt(to - 1) == ' ' || header.charAt(to - 1) == '\t')) {
+            to--;
+        }
+        return to;
+    }
+
+    public record CookieToken(String value, AuthenticationMode mode) {
+    }
+}
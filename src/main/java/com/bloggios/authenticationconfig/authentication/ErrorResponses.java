@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.payload.JwtErrorResponse;
+import com.bloggios.authenticationconfig.payload.ModuleResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 18 : 05
+ */
+
+@Getter
+public class ErrorResponses {
+
+    public static final String TOKEN_EXPIRED_MESSAGE = "JWT token is Expired";
+    public static final String COOKIE_EXPIRED_MESSAGE = "Cookie Token is Expired in cookie";
+    public static final String TOKEN_REVOKED_MESSAGE = "JWT token has been revoked";
+    public static final String COOKIE_MISSING_MESSAGE = "Authentication Cookie is not present in header";
+    public static final String FOREIGN_DEVICE_MESSAGE = "Not allowed to use authentication token generated on other device";
+    public static final String NOT_AUTHORIZED_MESSAGE = "Not Authorized to access this resource";
+    public static final String UNAUTHORIZED_MESSAGE = "Unauthorized";
+    public static final String OVERLOADED_MESSAGE = "Authentication is temporarily unavailable, please retry";
+    public static final String RATE_LIMITED_MESSAGE = "Too many failed authentication attempts, please retry later";
+    // The library's own payloads, so the application's naming strategy or inclusion settings cannot rename or drop fields
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final PreparedResponse tokenExpired;
+    private final PreparedResponse cookieExpired;
+    private final PreparedResponse tokenRevoked;
+    private final PreparedResponse cookieMissing;
+    private final PreparedResponse foreignDevice;
+    private final PreparedResponse notAuthorized;
+    private final PreparedResponse unauthorized;
+    private final PreparedResponse overloaded;
+    private final PreparedResponse rateLimited;
+    @Getter(AccessLevel.NONE)
+    private final Map<AuthenticationOutcome, PreparedResponse> bearerResponses = new EnumMap<>(AuthenticationOutcome.class);
+    @Getter(AccessLevel.NONE)
+    private final Map<AuthenticationOutcome, PreparedResponse> cookieResponses = new EnumMap<>(AuthenticationOutcome.class);
+
+    public ErrorResponses() throws JsonProcessingException {
+        this.tokenExpired = prepare(HttpStatus.FORBIDDEN, JwtErrorResponse.builder().message(TOKEN_EXPIRED_MESSAGE).isExpired(true).build());
+        this.cookieExpired = prepare(HttpStatus.FORBIDDEN, JwtErrorResponse.builder().message(COOKIE_EXPIRED_MESSAGE).isExpired(true).build());
+        this.tokenRevoked = prepare(HttpStatus.UNAUTHORIZED, JwtErrorResponse.builder().message(TOKEN_REVOKED_MESSAGE).isExpired(false).build());
+        this.cookieMissing = prepare(HttpStatus.UNAUTHORIZED, JwtErrorResponse.builder().message(COOKIE_MISSING_MESSAGE).build());
+        this.foreignDevice = prepare(HttpStatus.UNAUTHORIZED, JwtErrorResponse.builder().message(FOREIGN_DEVICE_MESSAGE).build());
+        this.notAuthorized = prepare(HttpStatus.UNAUTHORIZED, ModuleResponse.builder().message(NOT_AUTHORIZED_MESSAGE).build());
+        this.unauthorized = prepare(HttpStatus.UNAUTHORIZED, ModuleResponse.builder().message(UNAUTHORIZED_MESSAGE).build());
+        this.overloaded = prepare(HttpStatus.SERVICE_UNAVAILABLE, ModuleResponse.builder().message(OVERLOADED_MESSAGE).build());
+        this.rateLimited = prepare(HttpStatus.TOO_MANY_REQUESTS, ModuleResponse.builder().message(RATE_LIMITED_MESSAGE).build());
+        register(AuthenticationOutcome.EXPIRED, tokenExpired, cookieExpired);
+        register(AuthenticationOutcome.REVOKED, tokenRevoked, tokenRevoked);
+        register(AuthenticationOutcome.FOREIGN_IP, foreignDevice, foreignDevice);
+        register(AuthenticationOutcome.MISSING_COOKIE, cookieMissing, cookieMissing);
+        register(AuthenticationOutcome.OVERLOADED, overloaded, overloaded);
+        register(AuthenticationOutcome.RATE_LIMITED, rateLimited, rateLimited);
+    }
+
+    private void register(AuthenticationOutcome outcome, PreparedResponse bearer, PreparedResponse cookie) {
+        bearerResponses.put(outcome, bearer);
+        cookieResponses.put(outcome, cookie);
+    }
+
+    /**
+     * The response for an outcome whose body does not depend on the token, or null for the per-token rejections.
+     */
+    public PreparedResponse forOutcome(AuthenticationOutcome outcome, boolean isCookie) {
+        return (isCookie ? cookieResponses : bearerResponses).get(outcome);
+    }
+
+    /**
+     * The response for any rejected token; bad signatures, malformed tokens and invalid claims carry the decoder message.
+     */
+    public PreparedResponse forOutcome(AuthenticationOutcome outcome, boolean isCookie, String message) throws JsonProcessingException {
+        PreparedResponse preparedResponse = forOutcome(outcome, isCookie);
+        if (preparedResponse != null) {
+            return preparedResponse;
+        }
+        Boolean isExpired = outcome == AuthenticationOutcome.INVALID_CLAIMS ? Boolean.FALSE : null;
+        return prepare(HttpStatus.UNAUTHORIZED, JwtErrorResponse.builder().message(message).isExpired(isExpired).build());
+    }
+
+    public PreparedResponse prepare(HttpStatus status, Object payload) throws JsonProcessingException {
+        return new PreparedResponse(status.value(), OBJECT_MAPPER.writeValueAsBytes(payload));
+    }
+
+    public record PreparedResponse(int status, byte[] body) {
+    }
+}
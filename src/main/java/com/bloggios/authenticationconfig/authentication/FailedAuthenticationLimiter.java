@@ -0,0 +1,228 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 21 : 30
+ */
+
+/**
+ * Counts failed authentications per client address in an approximate sliding window and reports clients that went
+ * over the limit, so they can be turned away before their token is verified.
+ * <p>
+ * Clients live in a fixed open-addressing table of {@code max-clients} slots holding a 64-bit hash of the address
+ * and a packed state (owner tag, window number, previous window count, current window count) that is updated with
+ * CAS. The sliding count is the current window plus the previous one weighted by how much of it still overlaps.
+ * When the probed slots are all taken by live clients the one with the oldest window is reused, so memory stays
+ * fixed and a flood of addresses makes the limiter forget clients rather than grow. The owner tag is the top byte of
+ * the hash, so a slot's new owner starts from zero instead of the evicted client's counts unless those bits collide
+ * too. Clients behind one address (a NAT, or a proxy missing from {@code client-ip.trusted-proxies}) share a budget
+ * and are limited together.
+ */
+public class FailedAuthenticationLimiter {
+
+    private static final int PROBES = 8;
+    private static final long COUNT_MAX = 0xFFFF;
+    private static final long WINDOW_MASK = 0xFFFFFF;
+
+    private final boolean enabled;
+    private final int maxFailures;
+    private final long windowMillis;
+    private final String retryAfterSeconds;
+    private final int mask;
+    private final AtomicLongArray keys;
+    private final AtomicLongArray states;
+
+    public FailedAuthenticationLimiter(
+            SecurityConfigProperties securityConfigProperties
+    ) {
+        SecurityConfigProperties.RateLimit rateLimit = securityConfigProperties.getRateLimit();
+        this.enabled = rateLimit.isEnabled();
+        this.maxFailures = rateLimit.getMaxFailures();
+        this.windowMillis = Math.max(1, rateLimit.getWindow().toMillis());
+        this.retryAfterSeconds = Long.toString(Math.max(1, (windowMillis + 999) / 1000));
+        int capacity = enabled ? Integer.highestOneBit(Math.max(PROBES, rateLimit.getMaxClients()) - 1) << 1 : PROBES;
+        this.mask = capacity - 1;
+        this.keys = new AtomicLongArray(capacity);
+        this.states = new AtomicLongArray(capacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public boolean isLimited(String clientIp) {
+        return isLimited(clientIp, System.currentTimeMillis());
+    }
+
+    public void recordFailure(String clientIp) {
+        recordFailure(clientIp, System.currentTimeMillis());
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    boolean isLimited(String clientIp, long now) {
+        if (!enabled || clientIp == null) {
+            return false;
+        }
+        long key = hash(clientIp);
+        int start = (int) key & mask;
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (start + i) & mask;
+            if (keys.get(slot) == key) {
+                long state = states.get(slot);
+                return tag(state) == tag(key) && estimate(state, now) >= maxFailures;
+            }
+        }
+        return false;
+    }
+
+    void recordFailure(String clientIp, long now) {
+        if (!enabled || clientIp == null) {
+            return;
+        }
+        long key = hash(clientIp);
+        long tag = tag(key);
+        long window = window(now);
+        int slot = claim(key);
+        long state;
+        long next;
+        do {
+            state = states.get(slot);
+            long stateWindow = stateWindow(state);
+            long current = current(state);
+            long previous;
+            if (tag(state) != tag) {
+                previous = 0;
+                current = 0;
+            } else if (stateWindow == window) {
+                previous = previous(state);
+            } else if (stateWindow == previousWindow(window)) {
+                previous = current;
+                current = 0;
+            } else {
+                previous = 0;
+                current = 0;
+            }
+            next = pack(tag, window, previous, Math.min(COUNT_MAX, current + 1));
+        } while (!states.compareAndSet(slot, state, next));
+    }
+
+    private int claim(long key) {
+        int start = (int) key & mask;
+        while (true) {
+            int victim = start;
+            long victimKey = 0;
+            long victimWindow = Long.MAX_VALUE;
+            for (int i = 0; i < PROBES; i++) {
+                int slot = (start + i) & mask;
+                long existing = keys.get(slot);
+                if (existing == key) {
+                    return slot;
+                }
+                long slotWindow = existing == 0 ? -1 : stateWindow(states.get(slot));
+                if (slotWindow < victimWindow) {
+                    victim = slot;
+                    victimKey = existing;
+                    victimWindow = slotWindow;
+                }
+            }
+            // Reusing a live slot only drops what is known about the evicted client; losing the race means another
+            // thread may have just claimed a slot for this same key, so probe again
+            if (keys.compareAndSet(victim, victimKey, key)) {
+                return victim;
+            }
+        }
+    }
+
+    private double estimate(long state, long now) {
+        long window = window(now);
+        long stateWindow = stateWindow(state);
+        double elapsed = (double) (now % windowMillis) / windowMillis;
+        if (stateWindow == window) {
+            return current(state) + previous(state) * (1 - elapsed);
+        }
+        if (stateWindow == previousWindow(window)) {
+            return current(state) * (1 - elapsed);
+        }
+        return 0;
+    }
+
+    // Window numbers are kept to 24 bits so they fit the packed state next to the owner tag
+    private long window(long now) {
+        return (now / windowMillis) & WINDOW_MASK;
+    }
+
+    private static long previousWindow(long window) {
+        return (window - 1) & WINDOW_MASK;
+    }
+
+    private static long tag(long keyOrState) {
+        return keyOrState >>> 56;
+    }
+
+    private static long pack(long tag, long window, long previous, long current) {
+        return tag << 56 | window << 32 | previous << 16 | current;
+    }
+
+    private static long stateWindow(long state) {
+        return (state >>> 32) & WINDOW_MASK;
+    }
+
+    private static long previous(long state) {
+        return (state >>> 16) & COUNT_MAX;
+    }
+
+    private static long current(long state) {
+        return state & COUNT_MAX;
+    }
+
+    // FNV-1a over the characters followed by a murmur finalizer; 0 marks an empty slot
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+}
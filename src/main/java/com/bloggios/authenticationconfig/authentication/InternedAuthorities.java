@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 18 : 20
+ */
+
+/**
+ * Immutable authority list shared by every token carrying the same {@code authority} claim, with a bitset of the
+ * authorities that were assigned a bit by the {@link AuthorityRegistry}.
+ */
+public final class InternedAuthorities extends AbstractList<GrantedAuthority> implements RandomAccess {
+
+    private final AuthorityRegistry registry;
+    private final List<SimpleGrantedAuthority> authorities;
+    private final long mask;
+    private final boolean unindexed;
+
+    InternedAuthorities(AuthorityRegistry registry, List<SimpleGrantedAuthority> authorities, long mask, boolean unindexed) {
+        this.registry = registry;
+        this.authorities = authorities;
+        this.mask = mask;
+        this.unindexed = unindexed;
+    }
+
+    public boolean hasAuthority(String authority) {
+        int bit = registry.bit(authority);
+        if (bit >= 0) {
+            return (mask & (1L << bit)) != 0;
+        }
+        // Without a bit the authority can only be present if this list holds authorities outside the bitset
+        return unindexed && containsName(authority);
+    }
+
+    public boolean hasAnyAuthority(String... authorities) {
+        for (String authority : authorities) {
+            if (hasAuthority(authority)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long getMask() {
+        return mask;
+    }
+
+    @Override
+    public GrantedAuthority get(int index) {
+        return authorities.get(index);
+    }
+
+    @Override
+    public int size() {
+        return authorities.size();
+    }
+
+    private boolean containsName(String authority) {
+        for (SimpleGrantedAuthority grantedAuthority : authorities) {
+            if (grantedAuthority.getAuthority().equals(authority)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -23,18 +23,13 @@
 
 package com.bloggios.authenticationconfig.authentication;
 
-import com.bloggios.authenticationconfig.payload.ModuleResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
-import org.springframework.stereotype.Component;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.OutputStream;
 
 /**
  * Owner - Rohit Parihar
@@ -45,16 +40,21 @@ import java.io.OutputStream;
  * Created_at - 19 : 12
  */
 
-@Component
 public class MyAccessDeniedHandler implements AccessDeniedHandler {
 
+    private final ErrorResponseWriter errorResponseWriter;
+    private final ErrorResponses errorResponses;
+
+    public MyAccessDeniedHandler(
+            ErrorResponseWriter errorResponseWriter,
+            ErrorResponses errorResponses
+    ) {
+        this.errorResponseWriter = errorResponseWriter;
+        this.errorResponses = errorResponses;
+    }
+
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException, ServletException {
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
-        response.setContentType("application/json");
-        OutputStream output = response.getOutputStream();
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writeValue(output, ModuleResponse.builder().message("Not Authorized to access this resource").build());
-        output.flush();
+        errorResponseWriter.write(response, errorResponses.getNotAuthorized());
     }
 }
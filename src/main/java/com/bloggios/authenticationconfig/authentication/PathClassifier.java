@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 13 : 10
+ */
+
+public class PathClassifier {
+
+    private final AntPathMatcher antPathMatcher;
+    private final Node root = new Node();
+
+    public PathClassifier(
+            SecurityConfigProperties securityConfigProperties,
+            AntPathMatcher antPathMatcher
+    ) {
+        this.antPathMatcher = antPathMatcher;
+        SecurityConfigProperties.Exclude exclude = securityConfigProperties.getExclude();
+        SecurityConfigProperties.Cookie cookie = securityConfigProperties.getCookie();
+        if (exclude != null && !CollectionUtils.isEmpty(exclude.getPaths())) {
+            exclude.getPaths().forEach(pattern -> compile(pattern, PathType.EXCLUDED));
+        }
+        if (cookie != null && !CollectionUtils.isEmpty(cookie.getPaths())) {
+            cookie.getPaths().forEach(pattern -> compile(pattern, PathType.COOKIE));
+        }
+    }
+
+    public boolean isExcluded(String uri) {
+        return classify(uri) == PathType.EXCLUDED;
+    }
+
+    // Takes the path within the application, without the context path. Walks the literal segments through the
+    // trie and only runs the AntPathMatcher on patterns whose literal prefix matched; a cookie pattern always wins
+    // over an excluded pattern, so a path listed in both still gets cookie authentication
+    public PathType classify(String uri) {
+        boolean isExcludePath = false;
+        Node node = root;
+        int index = 0;
+        int length = uri.length();
+        while (node != null) {
+            for (CompiledPattern candidate : node.patterns) {
+                if ((candidate.pathType() == PathType.COOKIE || !isExcludePath) && antPathMatcher.match(candidate.pattern(), uri)) {
+                    if (candidate.pathType() == PathType.COOKIE) {
+                        return PathType.COOKIE;
+                    }
+                    isExcludePath = true;
+                }
+            }
+            while (index < length && uri.charAt(index) == '/') {
+                index++;
+            }
+            if (index >= length || node.children.isEmpty()) {
+                break;
+            }
+            int end = uri.indexOf('/', index);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.children.get(uri.substring(index, end));
+            index = end;
+        }
+        return isExcludePath ? PathType.EXCLUDED : PathType.BEARER;
+    }
+
+    private void compile(String pattern, PathType pathType) {
+        Node node = root;
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (isWildcard(segment)) {
+                break;
+            }
+            node = node.children.computeIfAbsent(segment, key -> new Node());
+        }
+        node.patterns.add(new CompiledPattern(pattern, pathType));
+    }
+
+    private static boolean isWildcard(String segment) {
+        return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0;
+    }
+
+    public enum PathType {
+        EXCLUDED,
+        COOKIE,
+        BEARER
+    }
+
+    private record CompiledPattern(String pattern, PathType pathType) {
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<CompiledPattern> patterns = new ArrayList<>();
+    }
+}
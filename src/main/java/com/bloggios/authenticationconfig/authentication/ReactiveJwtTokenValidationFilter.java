@@ -0,0 +1,255 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.audit.AuthenticationAuditLog;
+import com.bloggios.authenticationconfig.constants.ServiceConstants;
+import com.bloggios.authenticationconfig.metrics.AuthenticationMetrics;
+import com.bloggios.authenticationconfig.payload.AuthenticatedUser;
+import com.bloggios.authenticationconfig.util.IpUtils;
+import com.bloggios.authenticationconfig.util.JwtDecoderUtil;
+import com.bloggios.authenticationconfig.util.TokenDigest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 18 : 55
+ */
+
+public class ReactiveJwtTokenValidationFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveJwtTokenValidationFilter.class);
+
+    private final JwtDecoderUtil jwtDecoderUtil;
+    private final TokenVerifier tokenVerifier;
+    private final BreadcrumbIdResolver breadcrumbIdResolver;
+    private final ClientIpResolver clientIpResolver;
+    private final ClientIpBinding clientIpBinding;
+    private final FailedAuthenticationLimiter failedAuthenticationLimiter;
+    // Null when no cookie paths are configured, no request is classified as a cookie request then
+    private final CookieTokenExtractor cookieTokenExtractor;
+    private final PathClassifier pathClassifier;
+    private final ReactiveErrorResponseWriter errorResponseWriter;
+    private final AuthenticationMetrics authenticationMetrics;
+    private final AuthenticationAuditLog authenticationAuditLog;
+    private final Scheduler verificationScheduler;
+
+    public ReactiveJwtTokenValidationFilter(
+            JwtDecoderUtil jwtDecoderUtil,
+            TokenVerifier tokenVerifier,
+            BreadcrumbIdResolver breadcrumbIdResolver,
+            ClientIpResolver clientIpResolver,
+            ClientIpBinding clientIpBinding,
+            FailedAuthenticationLimiter failedAuthenticationLimiter,
+            CookieTokenExtractor cookieTokenExtractor,
+            PathClassifier pathClassifier,
+            ReactiveErrorResponseWriter errorResponseWriter,
+            AuthenticationMetrics authenticationMetrics,
+            AuthenticationAuditLog authenticationAuditLog,
+            Scheduler verificationScheduler
+    ) {
+        this.jwtDecoderUtil = jwtDecoderUtil;
+        this.tokenVerifier = tokenVerifier;
+        this.breadcrumbIdResolver = breadcrumbIdResolver;
+        this.clientIpResolver = clientIpResolver;
+        this.clientIpBinding = clientIpBinding;
+        this.failedAuthenticationLimiter = failedAuthenticationLimiter;
+        this.cookieTokenExtractor = cookieTokenExtractor;
+        this.pathClassifier = pathClassifier;
+        this.errorResponseWriter = errorResponseWriter;
+        this.authenticationMetrics = authenticationMetrics;
+        this.authenticationAuditLog = authenticationAuditLog;
+        this.verificationScheduler = verificationScheduler;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String breadcrumbId = extractBreadcrumbId(request);
+        exchange.getAttributes().put(ServiceConstants.BREADCRUMB_ID, breadcrumbId);
+        long classificationStart = authenticationMetrics.start();
+        PathClassifier.PathType pathType = pathClassifier.classify(request.getPath().pathWithinApplication().value());
+        Mono<Void> result;
+        if (pathType == PathClassifier.PathType.BEARER) {
+            authenticationMetrics.recordPathClassification(classificationStart, AuthenticationMode.BEARER);
+            String token = extractToken(request);
+            if (token != null) {
+                result = authenticate(exchange, chain, token, AuthenticationMode.BEARER);
+            } else {
+                recordOutcome(exchange, AuthenticationMode.BEARER, AuthenticationOutcome.ANONYMOUS, null, null);
+                result = chain.filter(exchange);
+            }
+        } else if (pathType == PathClassifier.PathType.COOKIE) {
+            authenticationMetrics.recordPathClassification(classificationStart, AuthenticationMode.COOKIE);
+            logger.debug("Initiated Cookie Authentication of Incoming Request");
+            CookieTokenExtractor.CookieToken cookieToken = cookieTokenExtractor.extract(request.getHeaders().get(HttpHeaders.COOKIE));
+            if (cookieToken == null) {
+                result = writeError(exchange, tokenVerifier.reject(AuthenticationOutcome.MISSING_COOKIE, true), AuthenticationMode.COOKIE, null, null);
+            } else {
+                result = authenticate(exchange, chain, cookieToken.value(), cookieToken.mode());
+            }
+        } else {
+            authenticationMetrics.recordPathClassification(classificationStart, AuthenticationMode.EXCLUDED);
+            recordOutcome(exchange, AuthenticationMode.EXCLUDED, AuthenticationOutcome.ANONYMOUS, null, null);
+            result = chain.filter(exchange);
+        }
+        return result.contextWrite(Context.of(ServiceConstants.BREADCRUMB_ID, breadcrumbId));
+    }
+
+    // Tokens already in the rejected cache are answered on the calling thread, only real verifications are offloaded
+    private Mono<Void> authenticate(ServerWebExchange exchange, WebFilterChain chain, String token, AuthenticationMode mode) {
+        boolean isCookie = mode != AuthenticationMode.BEARER;
+        String clientIp = isCookie ? null : resolveClientIp(exchange.getRequest());
+        String limiterKey = failedAuthenticationLimiter.isEnabled() ? limiterKey(exchange.getRequest(), clientIp) : null;
+        if (failedAuthenticationLimiter.isLimited(limiterKey)) {
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, failedAuthenticationLimiter.getRetryAfterSeconds());
+            return writeError(exchange, tokenVerifier.reject(AuthenticationOutcome.RATE_LIMITED, isCookie), mode, null, clientIp);
+        }
+        long start = authenticationMetrics.start();
+        TokenDigest digest = tokenVerifier.digest(token);
+        TokenVerifier.Verification cached = tokenVerifier.cached(digest, isCookie);
+        Mono<TokenVerifier.Verification> verification = cached != null ? Mono.just(cached) : decode(token, digest, isCookie);
+        return verification
+                .onErrorResume(RejectedExecutionException.class, exception -> Mono.just(tokenVerifier.reject(AuthenticationOutcome.OVERLOADED, isCookie)))
+                .flatMap(result -> {
+                    authenticationMetrics.recordVerification(start, mode, result.outcome());
+                    TokenVerifier.Verification checked = result.jwt() != null && !isCookie && !isClientIpAllowed(result.jwt(), clientIp)
+                            ? tokenVerifier.reject(AuthenticationOutcome.FOREIGN_IP, false)
+                            : result;
+                    if (checked.jwt() == null) {
+                        if (checked.outcome().isFailedAttempt()) {
+                            failedAuthenticationLimiter.recordFailure(limiterKey);
+                        }
+                        return writeError(exchange, checked, mode, result.jwt(), clientIp);
+                    }
+                    ClaimsAuthenticationToken authentication = authentication(result.jwt());
+                    recordOutcome(exchange, mode, AuthenticationOutcome.SUCCESS, result.jwt(), clientIp);
+                    return chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+                });
+    }
+
+    // The result is handed to the parallel scheduler, so the rest of the chain and the handler never run on, or
+    // block, the bounded verification threads
+    private Mono<TokenVerifier.Verification> decode(String token, TokenDigest digest, boolean isCookie) {
+        Mono<TokenVerifier.Verification> verification = Mono.fromCallable(() -> tokenVerifier.decode(token, digest, isCookie));
+        return verificationScheduler == null
+                ? verification
+                : verification.subscribeOn(verificationScheduler).publishOn(Schedulers.parallel());
+    }
+
+    private Mono<Void> writeError(ServerWebExchange exchange, TokenVerifier.Verification verification, AuthenticationMode mode, Jwt jwt, String clientIp) {
+        AuthenticationOutcome outcome = verification.outcome();
+        long start = authenticationMetrics.start();
+        recordOutcome(exchange, mode, outcome, jwt, clientIp);
+        return errorResponseWriter
+                .write(exchange.getResponse(), verification.rejection().response())
+                .doFinally(signal -> authenticationMetrics.recordErrorWrite(start, outcome));
+    }
+
+    // The client IP is only resolved here for decisions that did not need it, and only while auditing
+    private void recordOutcome(ServerWebExchange exchange, AuthenticationMode mode, AuthenticationOutcome outcome, Jwt jwt, String clientIp) {
+        authenticationMetrics.recordOutcome(mode, outcome);
+        if (authenticationAuditLog != null && authenticationAuditLog.isEnabled()) {
+            authenticationAuditLog.record(
+                    mode,
+                    outcome,
+                    jwt != null ? jwtDecoderUtil.extractUserId(jwt) : null,
+                    clientIp != null ? clientIp : resolveClientIp(exchange.getRequest()),
+                    exchange.getAttribute(ServiceConstants.BREADCRUMB_ID)
+            );
+        }
+    }
+
+    private String resolveClientIp(ServerHttpRequest request) {
+        return clientIpResolver.resolve(
+                request.getHeaders().getFirst(IpUtils.FORWARDED),
+                request.getHeaders().getFirst(IpUtils.X_FORWARDED_FOR),
+                remoteAddress(request)
+        );
+    }
+
+    // Without trusted proxies the forwarding headers are the client's own choice, so failures count against the peer
+    private String limiterKey(ServerHttpRequest request, String clientIp) {
+        if (!clientIpResolver.hasTrustedProxies()) {
+            return remoteAddress(request);
+        }
+        return clientIp != null ? clientIp : resolveClientIp(request);
+    }
+
+    private static String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        if (address == null) {
+            return null;
+        }
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+
+    private boolean isClientIpAllowed(Jwt jwt, String remoteAddress) {
+        String clientIpFromToken = jwtDecoderUtil.extractClientIp(jwt);
+        return ServiceConstants.BYPASSED_IP.equals(clientIpFromToken) || clientIpBinding.matches(clientIpFromToken, remoteAddress);
+    }
+
+    private ClaimsAuthenticationToken authentication(Jwt jwt) {
+        long start = authenticationMetrics.start();
+        AuthenticatedUser authenticatedUser = jwtDecoderUtil.extractAuthenticatedUser(jwt);
+        ClaimsAuthenticationToken authentication = new ClaimsAuthenticationToken(authenticatedUser);
+        authenticationMetrics.recordClaimExtraction(start);
+        return authentication;
+    }
+
+    private String extractBreadcrumbId(ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        return breadcrumbIdResolver.resolve(
+                headers.getFirst(ServiceConstants.BREADCRUMB_ID),
+                headers.getFirst(ServiceConstants.TRACEPARENT)
+        );
+    }
+
+    private String extractToken(ServerHttpRequest request) {
+        String header = request.getHeaders().getFirst(ServiceConstants.AUTHORIZATION);
+        if (header != null && header.startsWith("Bearer ")) {
+            return header.substring(7);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.util.BoundedCacheSweeper;
+import com.bloggios.authenticationconfig.util.TokenDigest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 12 : 02
+ */
+
+public class RejectedTokenCache {
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<TokenDigest, Rejection> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder insertions = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final BoundedCacheSweeper<TokenDigest, Rejection> sweeper;
+
+    public RejectedTokenCache(
+            SecurityConfigProperties securityConfigProperties
+    ) {
+        SecurityConfigProperties.RejectedTokenCache properties = securityConfigProperties.getRejectedTokenCache();
+        this.enabled = properties.isEnabled();
+        this.maxSize = properties.getMaxSize();
+        this.ttlMillis = properties.getTtl().toMillis();
+        this.cache = new ConcurrentHashMap<>(Math.min(Math.max(maxSize, 16), 1024));
+        this.sweeper = new BoundedCacheSweeper<>(cache, maxSize, Rejection::expiresAt, evictions);
+    }
+
+    public Rejection get(TokenDigest digest, boolean isCookie) {
+        if (!enabled) {
+            return null;
+        }
+        Rejection rejection = cache.get(digest);
+        if (rejection == null || rejection.isCookie() != isCookie) {
+            return null;
+        }
+        if (System.currentTimeMillis() < rejection.expiresAt()) {
+            hits.increment();
+            return rejection;
+        }
+        if (cache.remove(digest, rejection)) {
+            evictions.increment();
+        }
+        return null;
+    }
+
+    public Rejection reject(TokenDigest digest, boolean isCookie, AuthenticationOutcome outcome, ErrorResponses.PreparedResponse response) {
+        long now = System.currentTimeMillis();
+        Rejection rejection = new Rejection(response, outcome, isCookie, now + ttlMillis);
+        if (enabled && maxSize > 0 && digest != null && sweeper.put(digest, rejection, now)) {
+            insertions.increment();
+        }
+        return rejection;
+    }
+
+    // Called when the verification keys change, a token rejected for an unknown kid may verify now
+    public void clear() {
+        cache.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getInsertionCount() {
+        return insertions.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public record Rejection(ErrorResponses.PreparedResponse response, AuthenticationOutcome outcome, boolean isCookie, long expiresAt) {
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 21 : 30
+ */
+
+/**
+ * Security context strategy for virtual-thread deployments, backed by a non-inheritable {@code ThreadLocal}. A
+ * context is bound for the extent of an {@link #open()} scope or a {@link #runWhere}/{@link #callWhere} call and the
+ * previous binding is always restored, so nothing outlives the request even on a pooled thread. Child threads never
+ * inherit the context; hand it over explicitly with {@link #wrap(Runnable)}.
+ */
+public final class RequestBoundSecurityContextHolderStrategy implements SecurityContextHolderStrategy {
+
+    private static final ThreadLocal<SecurityContext> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Installs this strategy on {@link SecurityContextHolder} unless it is already active.
+     */
+    public static RequestBoundSecurityContextHolderStrategy install() {
+        if (SecurityContextHolder.getContextHolderStrategy() instanceof RequestBoundSecurityContextHolderStrategy strategy) {
+            return strategy;
+        }
+        RequestBoundSecurityContextHolderStrategy strategy = new RequestBoundSecurityContextHolderStrategy();
+        SecurityContextHolder.setContextHolderStrategy(strategy);
+        return strategy;
+    }
+
+    public static boolean isActive() {
+        return SecurityContextHolder.getContextHolderStrategy() instanceof RequestBoundSecurityContextHolderStrategy;
+    }
+
+    /**
+     * Binds a fresh context, seeded with the authentication of the enclosing one, until the returned scope is closed.
+     */
+    public static Scope open() {
+        SecurityContext previous = CURRENT.get();
+        SecurityContext context = new SecurityContextImpl(previous == null ? null : previous.getAuthentication());
+        CURRENT.set(context);
+        return new Scope(previous);
+    }
+
+    public static void runWhere(SecurityContext context, Runnable action) {
+        SecurityContext previous = bind(context);
+        try {
+            action.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static <T> T callWhere(SecurityContext context, Callable<T> action) throws Exception {
+        SecurityContext previous = bind(context);
+        try {
+            return action.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Captures the current context so the task sees it when it runs on another (virtual) thread.
+     */
+    public static Runnable wrap(Runnable action) {
+        SecurityContext context = CURRENT.get();
+        if (context == null) {
+            return action;
+        }
+        return () -> runWhere(context, action);
+    }
+
+    private static SecurityContext bind(SecurityContext context) {
+        Assert.notNull(context, "Only non-null SecurityContext instances are permitted");
+        SecurityContext previous = CURRENT.get();
+        CURRENT.set(context);
+        return previous;
+    }
+
+    private static void restore(SecurityContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @Override
+    public void clearContext() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public SecurityContext getContext() {
+        SecurityContext context = CURRENT.get();
+        if (context == null) {
+            context = createEmptyContext();
+            CURRENT.set(context);
+        }
+        return context;
+    }
+
+    @Override
+    public void setContext(SecurityContext context) {
+        Assert.notNull(context, "Only non-null SecurityContext instances are permitted");
+        CURRENT.set(context);
+    }
+
+    @Override
+    public SecurityContext createEmptyContext() {
+        return new SecurityContextImpl();
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final SecurityContext previous;
+
+        private Scope(SecurityContext previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            restore(previous);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.decoder.CachingJwtDecoder;
+import com.bloggios.authenticationconfig.decoder.DecodeResult;
+import com.bloggios.authenticationconfig.revocation.TokenRevocationList;
+import com.bloggios.authenticationconfig.util.TokenDigest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 18 : 20
+ */
+
+public class TokenVerifier {
+
+    private final JwtDecoder jwtDecoder;
+    private final RejectedTokenCache rejectedTokenCache;
+    private final ErrorResponses errorResponses;
+    private final TokenRevocationList tokenRevocationList;
+    private final boolean digestNeeded;
+
+    public TokenVerifier(
+            JwtDecoder jwtDecoder,
+            RejectedTokenCache rejectedTokenCache,
+            ErrorResponses errorResponses,
+            TokenRevocationList tokenRevocationList
+    ) {
+        this.jwtDecoder = jwtDecoder;
+        this.rejectedTokenCache = rejectedTokenCache;
+        this.errorResponses = errorResponses;
+        this.tokenRevocationList = tokenRevocationList;
+        this.digestNeeded = rejectedTokenCache.isEnabled() || jwtDecoder instanceof CachingJwtDecoder;
+    }
+
+    public Verification verify(String token, boolean isCookie) throws JsonProcessingException {
+        TokenDigest digest = digest(token);
+        Verification cached = cached(digest, isCookie);
+        return cached != null ? cached : decode(token, digest, isCookie);
+    }
+
+    // Hashed once per request for both caches, and not at all when neither cache is enabled
+    public TokenDigest digest(String token) {
+        return digestNeeded ? TokenDigest.of(token) : null;
+    }
+
+    public Verification cached(TokenDigest digest, boolean isCookie) {
+        if (digest == null) {
+            return null;
+        }
+        RejectedTokenCache.Rejection rejection = rejectedTokenCache.get(digest, isCookie);
+        return rejection == null ? null : new Verification(null, rejection);
+    }
+
+    public Verification decode(String token, TokenDigest digest, boolean isCookie) throws JsonProcessingException {
+        DecodeResult result = digest != null && jwtDecoder instanceof CachingJwtDecoder cachingJwtDecoder
+                ? cachingJwtDecoder.decodeResult(token, digest)
+                : DecodeResult.decode(jwtDecoder, token);
+        AuthenticationOutcome outcome = outcome(result.status());
+        if (outcome == AuthenticationOutcome.SUCCESS) {
+            if (!tokenRevocationList.isRevoked(result.jwt())) {
+                return new Verification(result.jwt(), null);
+            }
+            outcome = AuthenticationOutcome.REVOKED;
+        }
+        ErrorResponses.PreparedResponse preparedResponse = errorResponses.forOutcome(outcome, isCookie, result.message());
+        return new Verification(null, rejectedTokenCache.reject(digest, isCookie, outcome, preparedResponse));
+    }
+
+    /**
+     * A rejection that is decided outside the decoder (foreign device, rate limit, overload) and is never cached.
+     */
+    public Verification reject(AuthenticationOutcome outcome, boolean isCookie) {
+        return new Verification(null, new RejectedTokenCache.Rejection(errorResponses.forOutcome(outcome, isCookie), outcome, isCookie, 0L));
+    }
+
+    private static AuthenticationOutcome outcome(DecodeResult.Status status) {
+        return switch (status) {
+            case VALID -> AuthenticationOutcome.SUCCESS;
+            case EXPIRED -> AuthenticationOutcome.EXPIRED;
+            case INVALID_CLAIMS -> AuthenticationOutcome.INVALID_CLAIMS;
+            case BAD_SIGNATURE -> AuthenticationOutcome.BAD_SIGNATURE;
+            case MALFORMED -> AuthenticationOutcome.MALFORMED;
+        };
+    }
+
+    public record Verification(Jwt jwt, RejectedTokenCache.Rejection rejection) {
+
+        public AuthenticationOutcome outcome() {
+            return jwt != null ? AuthenticationOutcome.SUCCESS : rejection.outcome();
+        }
+    }
+}
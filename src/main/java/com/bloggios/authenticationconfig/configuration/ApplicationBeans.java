@@ -23,12 +23,62 @@
 
 package com.bloggios.authenticationconfig.configuration;
 
+import com.bloggios.authenticationconfig.audit.AuthenticationAuditLog;
+import com.bloggios.authenticationconfig.authentication.AuthorityRegistry;
+import com.bloggios.authenticationconfig.authentication.BreadcrumbIdGenerator;
+import com.bloggios.authenticationconfig.authentication.BreadcrumbIdResolver;
+import com.bloggios.authenticationconfig.authentication.ClientIpBinding;
+import com.bloggios.authenticationconfig.authentication.ClientIpResolver;
+import com.bloggios.authenticationconfig.authentication.CookieTokenExtractor;
+import com.bloggios.authenticationconfig.authentication.ErrorResponses;
+import com.bloggios.authenticationconfig.authentication.FailedAuthenticationLimiter;
+import com.bloggios.authenticationconfig.authentication.PathClassifier;
+import com.bloggios.authenticationconfig.authentication.RejectedTokenCache;
+import com.bloggios.authenticationconfig.authentication.TimeOrderedBreadcrumbIdGenerator;
+import com.bloggios.authenticationconfig.authentication.TokenVerifier;
+import com.bloggios.authenticationconfig.decoder.CachingJwtDecoder;
+import com.bloggios.authenticationconfig.decoder.DecoderWarmUp;
+import com.bloggios.authenticationconfig.decoder.FastJwtDecoder;
+import com.bloggios.authenticationconfig.decoder.JwkSetKeyProvider;
+import com.bloggios.authenticationconfig.decoder.ValidatingJwtDecoder;
+import com.bloggios.authenticationconfig.decoder.VerificationKeyLoader;
+import com.bloggios.authenticationconfig.metrics.AuthenticationMetrics;
+import com.bloggios.authenticationconfig.password.BulkheadPasswordEncoder;
+import com.bloggios.authenticationconfig.password.PasswordEncoders;
 import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.revocation.FileRevocationSource;
+import com.bloggios.authenticationconfig.revocation.RevocationSource;
+import com.bloggios.authenticationconfig.revocation.TokenRevocationList;
+import com.bloggios.authenticationconfig.util.JwtDecoderUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.nimbusds.jose.proc.JWSKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.proc.SingleKeyJWSKeySelector;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.reactive.ReactiveOAuth2ResourceServerAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.util.AntPathMatcher;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.FileNotFoundException;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 
 /**
  * Owner - Rohit Parihar
@@ -37,9 +87,18 @@ import org.springframework.util.AntPathMatcher;
  * Package - com.bloggios.authenticationconfig.configuration
  * Created_on - 14 December-2023
  * Created_at - 19 : 11
+ * <p>
+ * Core beans shared by the servlet and reactive chains. Registered ahead of Spring Boot's security auto-configuration
+ * so the exported {@link JwtDecoder} keeps the default in-memory user and resource server decoder from being created.
  */
-
-@Configuration
+@AutoConfiguration(before = {
+        UserDetailsServiceAutoConfiguration.class,
+        ReactiveUserDetailsServiceAutoConfiguration.class,
+        OAuth2ResourceServerAutoConfiguration.class,
+        ReactiveOAuth2ResourceServerAutoConfiguration.class
+})
+@ConditionalOnWebApplication
+@EnableConfigurationProperties(SecurityConfigProperties.class)
 public class ApplicationBeans {
 
     private final SecurityConfigProperties securityConfigProperties;
@@ -51,16 +110,199 @@ public class ApplicationBeans {
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder
-                .withPublicKey(securityConfigProperties
-                        .getKeyProvider()
-                        .getPublicKey())
-                .build();
+    @ConditionalOnMissingBean(JwtDecoder.class)
+    public JwtDecoder jwtDecoder(
+            ObjectProvider<JwkSetKeyProvider> jwkSetKeyProviderProvider
+    ) {
+        SecurityConfigProperties.KeyProvider keyProvider = securityConfigProperties.getKeyProvider();
+        JWSKeySelector<SecurityContext> keySelector;
+        Function<String, JwkSetKeyProvider.VerificationKey> keyResolver;
+        Collection<JwkSetKeyProvider.VerificationKey> keys;
+        if (StringUtils.hasText(keyProvider.getJwkSetUri())) {
+            JwkSetKeyProvider jwkSetKeyProvider = jwkSetKeyProviderProvider.getObject();
+            keySelector = jwkSetKeyProvider;
+            keyResolver = jwkSetKeyProvider::getKey;
+            keys = jwkSetKeyProvider.getKeys().values();
+        } else if (StringUtils.hasText(keyProvider.getPublicKey())) {
+            JwkSetKeyProvider.VerificationKey key = VerificationKeyLoader.load(keyProvider);
+            keySelector = new SingleKeyJWSKeySelector<>(key.algorithm(), key.publicKey());
+            keyResolver = keyId -> key;
+            keys = List.of(key);
+        } else {
+            throw new IllegalStateException("Either security-config.key-provider.public-key or security-config.key-provider.jwk-set-uri must be configured");
+        }
+        SecurityConfigProperties.DecoderType decoderType = keyProvider.getDecoder();
+        JwtDecoder jwtDecoder = createJwtDecoder(keySelector, keyResolver, decoderType);
+        DecoderWarmUp.run(
+                jwtDecoder,
+                keys,
+                key -> createJwtDecoder(new SingleKeyJWSKeySelector<>(key.algorithm(), key.publicKey()), keyId -> key, decoderType),
+                keyProvider.getWarmUpIterations()
+        );
+        SecurityConfigProperties.TokenCache tokenCache = securityConfigProperties.getTokenCache();
+        if (tokenCache.isEnabled()) {
+            return new CachingJwtDecoder(jwtDecoder, tokenCache.getMaxSize());
+        }
+        return jwtDecoder;
+    }
+
+    private static JwtDecoder createJwtDecoder(
+            JWSKeySelector<SecurityContext> keySelector,
+            Function<String, JwkSetKeyProvider.VerificationKey> keyResolver,
+            SecurityConfigProperties.DecoderType decoderType
+    ) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(keySelector);
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> { });
+        JwtDecoder jwtDecoder = new ValidatingJwtDecoder(new NimbusJwtDecoder(jwtProcessor));
+        return decoderType == SecurityConfigProperties.DecoderType.FAST ? new FastJwtDecoder(keyResolver, jwtDecoder) : jwtDecoder;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(JwkSetKeyProvider.class)
+    @ConditionalOnProperty(prefix = "security-config.key-provider", name = "jwk-set-uri")
+    public JwkSetKeyProvider jwkSetKeyProvider() {
+        SecurityConfigProperties.KeyProvider keyProvider = securityConfigProperties.getKeyProvider();
+        return new JwkSetKeyProvider(
+                keyProvider.getJwkSetUri(),
+                keyProvider.getJwkSetRefreshInterval(),
+                keyProvider.getJwkSetKeyRetention(),
+                keyProvider.getMinimumKeySize()
+        );
     }
 
     @Bean
+    @ConditionalOnMissingBean(AntPathMatcher.class)
     public AntPathMatcher antPathMatcher() {
         return new AntPathMatcher();
     }
+
+    @Bean
+    @ConditionalOnMissingBean(BreadcrumbIdGenerator.class)
+    public BreadcrumbIdGenerator breadcrumbIdGenerator() {
+        return new TimeOrderedBreadcrumbIdGenerator();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(RevocationSource.class)
+    public RevocationSource revocationSource() {
+        SecurityConfigProperties.Revocation revocation = securityConfigProperties.getRevocation();
+        if (!revocation.isEnabled() || !StringUtils.hasText(revocation.getFile())) {
+            return RevocationSource.NONE;
+        }
+        try {
+            return new FileRevocationSource(ResourceUtils.getFile(revocation.getFile()).toPath());
+        } catch (FileNotFoundException e) {
+            throw new IllegalStateException("security-config.revocation.file must point to the file system : " + e.getMessage(), e);
+        }
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(TokenRevocationList.class)
+    public TokenRevocationList tokenRevocationList(
+            RevocationSource revocationSource
+    ) {
+        return new TokenRevocationList(revocationSource, securityConfigProperties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(AuthorityRegistry.class)
+    public AuthorityRegistry authorityRegistry() {
+        return new AuthorityRegistry();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(JwtDecoderUtil.class)
+    public JwtDecoderUtil jwtDecoderUtil(
+            JwtDecoder jwtDecoder,
+            AuthorityRegistry authorityRegistry
+    ) {
+        return new JwtDecoderUtil(jwtDecoder, authorityRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ErrorResponses.class)
+    public ErrorResponses errorResponses() throws JsonProcessingException {
+        return new ErrorResponses();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(RejectedTokenCache.class)
+    public RejectedTokenCache rejectedTokenCache(
+            ObjectProvider<JwkSetKeyProvider> jwkSetKeyProviderProvider
+    ) {
+        RejectedTokenCache rejectedTokenCache = new RejectedTokenCache(securityConfigProperties);
+        jwkSetKeyProviderProvider.ifAvailable(jwkSetKeyProvider -> jwkSetKeyProvider.addKeySetListener(rejectedTokenCache::clear));
+        return rejectedTokenCache;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(TokenVerifier.class)
+    public TokenVerifier tokenVerifier(
+            JwtDecoder jwtDecoder,
+            RejectedTokenCache rejectedTokenCache,
+            ErrorResponses errorResponses,
+            TokenRevocationList tokenRevocationList
+    ) {
+        return new TokenVerifier(jwtDecoder, rejectedTokenCache, errorResponses, tokenRevocationList);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(BreadcrumbIdResolver.class)
+    public BreadcrumbIdResolver breadcrumbIdResolver(
+            BreadcrumbIdGenerator breadcrumbIdGenerator
+    ) {
+        return new BreadcrumbIdResolver(breadcrumbIdGenerator, securityConfigProperties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ClientIpResolver.class)
+    public ClientIpResolver clientIpResolver() {
+        return new ClientIpResolver(securityConfigProperties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ClientIpBinding.class)
+    public ClientIpBinding clientIpBinding() {
+        return new ClientIpBinding(securityConfigProperties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(FailedAuthenticationLimiter.class)
+    public FailedAuthenticationLimiter failedAuthenticationLimiter() {
+        return new FailedAuthenticationLimiter(securityConfigProperties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(PathClassifier.class)
+    public PathClassifier pathClassifier(
+            AntPathMatcher antPathMatcher
+    ) {
+        return new PathClassifier(securityConfigProperties, antPathMatcher);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(CookieTokenExtractor.class)
+    @Conditional(OnCookieAuthenticationCondition.class)
+    public CookieTokenExtractor cookieTokenExtractor() {
+        return new CookieTokenExtractor(securityConfigProperties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(AuthenticationAuditLog.class)
+    @ConditionalOnProperty(prefix = "security-config.audit", name = "enabled", havingValue = "true")
+    public AuthenticationAuditLog authenticationAuditLog() {
+        return new AuthenticationAuditLog(securityConfigProperties);
+    }
+
+    // Lazy so services that never hash passwords skip the startup calibration
+    @Bean
+    @Lazy
+    @ConditionalOnMissingBean(PasswordEncoder.class)
+    public BulkheadPasswordEncoder passwordEncoder(
+            AuthenticationMetrics authenticationMetrics
+    ) {
+        SecurityConfigProperties.Password password = securityConfigProperties.getPassword();
+        return new BulkheadPasswordEncoder(PasswordEncoders.create(password), password, authenticationMetrics);
+    }
 }
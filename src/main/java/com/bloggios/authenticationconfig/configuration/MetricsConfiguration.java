@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.configuration;
+
+import com.bloggios.authenticationconfig.audit.AuthenticationAuditLog;
+import com.bloggios.authenticationconfig.authentication.RejectedTokenCache;
+import com.bloggios.authenticationconfig.decoder.CachingJwtDecoder;
+import com.bloggios.authenticationconfig.metrics.AuthenticationMetrics;
+import com.bloggios.authenticationconfig.metrics.MicrometerAuthenticationMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.configuration
+ * Created_on - 18 October-2026
+ * Created_at - 16 : 05
+ */
+
+@AutoConfiguration(after = ApplicationBeans.class)
+@ConditionalOnWebApplication
+public class MetricsConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(AuthenticationMetrics.class)
+    public AuthenticationMetrics authenticationMetrics() {
+        return AuthenticationMetrics.NOOP;
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "security-config.metrics", name = "enabled", havingValue = "true")
+    static class MicrometerMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(AuthenticationMetrics.class)
+        public AuthenticationMetrics micrometerAuthenticationMetrics(
+                ObjectProvider<MeterRegistry> meterRegistryProvider,
+                JwtDecoder jwtDecoder,
+                RejectedTokenCache rejectedTokenCache,
+                ObjectProvider<AuthenticationAuditLog> authenticationAuditLogProvider
+        ) {
+            MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+            if (jwtDecoder instanceof CachingJwtDecoder cachingJwtDecoder) {
+                MicrometerAuthenticationMetrics.bindTokenCache(meterRegistry, cachingJwtDecoder);
+            }
+            MicrometerAuthenticationMetrics.bindRejectedTokenCache(meterRegistry, rejectedTokenCache);
+            authenticationAuditLogProvider.ifAvailable(authenticationAuditLog -> MicrometerAuthenticationMetrics.bindAuditLog(meterRegistry, authenticationAuditLog));
+            return new MicrometerAuthenticationMetrics(meterRegistry);
+        }
+    }
+}
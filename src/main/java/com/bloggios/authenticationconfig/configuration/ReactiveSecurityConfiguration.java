@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.configuration;
+
+import com.bloggios.authenticationconfig.audit.AuthenticationAuditLog;
+import com.bloggios.authenticationconfig.authentication.ClientIpBinding;
+import com.bloggios.authenticationconfig.authentication.BreadcrumbIdResolver;
+import com.bloggios.authenticationconfig.authentication.ClientIpResolver;
+import com.bloggios.authenticationconfig.authentication.CookieTokenExtractor;
+import com.bloggios.authenticationconfig.authentication.ErrorResponses;
+import com.bloggios.authenticationconfig.authentication.FailedAuthenticationLimiter;
+import com.bloggios.authenticationconfig.authentication.PathClassifier;
+import com.bloggios.authenticationconfig.authentication.ReactiveErrorResponseWriter;
+import com.bloggios.authenticationconfig.authentication.ReactiveJwtTokenValidationFilter;
+import com.bloggios.authenticationconfig.authentication.TokenVerifier;
+import com.bloggios.authenticationconfig.metrics.AuthenticationMetrics;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.util.JwtDecoderUtil;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveSecurityAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.configuration
+ * Created_on - 18 October-2026
+ * Created_at - 19 : 20
+ */
+
+@AutoConfiguration(
+        after = ApplicationBeans.class,
+        before = ReactiveSecurityAutoConfiguration.class,
+        beforeName = "org.springframework.boot.actuate.autoconfigure.security.reactive.ReactiveManagementWebSecurityAutoConfiguration"
+)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfiguration implements DisposableBean {
+
+    private static final int VERIFICATION_THREAD_TTL_SECONDS = 60;
+
+    private final JwtDecoderUtil jwtDecoderUtil;
+    private final TokenVerifier tokenVerifier;
+    private final BreadcrumbIdResolver breadcrumbIdResolver;
+    private final ClientIpResolver clientIpResolver;
+    private final ClientIpBinding clientIpBinding;
+    private final FailedAuthenticationLimiter failedAuthenticationLimiter;
+    private final CookieTokenExtractor cookieTokenExtractor;
+    private final PathClassifier pathClassifier;
+    private final ErrorResponses errorResponses;
+    private final AuthenticationMetrics authenticationMetrics;
+    private final Scheduler verificationScheduler;
+
+    public ReactiveSecurityConfiguration(
+            JwtDecoderUtil jwtDecoderUtil,
+            TokenVerifier tokenVerifier,
+            BreadcrumbIdResolver breadcrumbIdResolver,
+            ClientIpResolver clientIpResolver,
+            ClientIpBinding clientIpBinding,
+            FailedAuthenticationLimiter failedAuthenticationLimiter,
+            ObjectProvider<CookieTokenExtractor> cookieTokenExtractor,
+            SecurityConfigProperties securityConfigProperties,
+            PathClassifier pathClassifier,
+            ErrorResponses errorResponses,
+            AuthenticationMetrics authenticationMetrics
+    ) {
+        this.jwtDecoderUtil = jwtDecoderUtil;
+        this.tokenVerifier = tokenVerifier;
+        this.breadcrumbIdResolver = breadcrumbIdResolver;
+        this.clientIpResolver = clientIpResolver;
+        this.clientIpBinding = clientIpBinding;
+        this.failedAuthenticationLimiter = failedAuthenticationLimiter;
+        this.cookieTokenExtractor = cookieTokenExtractor.getIfAvailable();
+        this.pathClassifier = pathClassifier;
+        this.errorResponses = errorResponses;
+        this.authenticationMetrics = authenticationMetrics;
+        SecurityConfigProperties.Reactive reactive = securityConfigProperties.getReactive();
+        this.verificationScheduler = reactive.isOffloadVerification()
+                ? Schedulers.newBoundedElastic(reactive.getVerificationThreads(), reactive.getVerificationQueueSize(), "bloggios-jwt-verification", VERIFICATION_THREAD_TTL_SECONDS, true)
+                : null;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ReactiveErrorResponseWriter.class)
+    public ReactiveErrorResponseWriter reactiveErrorResponseWriter() {
+        return new ReactiveErrorResponseWriter();
+    }
+
+    // The filter is deliberately not a bean, WebFlux would otherwise also add it to the global WebFilter chain
+    @Bean
+    @ConditionalOnMissingBean(SecurityWebFilterChain.class)
+    public SecurityWebFilterChain securityWebFilterChain(
+            ServerHttpSecurity http,
+            ReactiveErrorResponseWriter reactiveErrorResponseWriter,
+            ObjectProvider<AuthenticationAuditLog> authenticationAuditLog
+    ) {
+        ReactiveJwtTokenValidationFilter reactiveJwtTokenValidationFilter = new ReactiveJwtTokenValidationFilter(
+                jwtDecoderUtil,
+                tokenVerifier,
+                breadcrumbIdResolver,
+                clientIpResolver,
+                clientIpBinding,
+                failedAuthenticationLimiter,
+                cookieTokenExtractor,
+                pathClassifier,
+                reactiveErrorResponseWriter,
+                authenticationMetrics,
+                authenticationAuditLog.getIfAvailable(),
+                verificationScheduler
+        );
+        http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .cors(Customizer.withDefaults())
+                .authorizeExchange(exchanges -> exchanges
+                        .matchers(exchange -> pathClassifier.isExcluded(exchange.getRequest().getPath().pathWithinApplication().value())
+                                ? ServerWebExchangeMatcher.MatchResult.match()
+                                : ServerWebExchangeMatcher.MatchResult.notMatch()).permitAll()
+                        .anyExchange().authenticated()
+                )
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(e -> e
+                        .authenticationEntryPoint((exchange, exception) -> reactiveErrorResponseWriter.write(exchange.getResponse(), errorResponses.getUnauthorized()))
+                        .accessDeniedHandler((exchange, exception) -> reactiveErrorResponseWriter.write(exchange.getResponse(), errorResponses.getNotAuthorized()))
+                )
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable);
+        http.addFilterAt(reactiveJwtTokenValidationFilter, SecurityWebFiltersOrder.AUTHENTICATION);
+        return http.build();
+    }
+
+    @Override
+    public void destroy() {
+        if (verificationScheduler != null) {
+            verificationScheduler.dispose();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "security-config.method-security", name = "enabled", havingValue = "true", matchIfMissing = true)
+    @EnableReactiveMethodSecurity
+    static class ReactiveMethodSecurityConfiguration {
+    }
+}
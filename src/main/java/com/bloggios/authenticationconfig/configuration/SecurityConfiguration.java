@@ -23,25 +23,41 @@
 
 package com.bloggios.authenticationconfig.configuration;
 
+import com.bloggios.authenticationconfig.audit.AuthenticationAuditLog;
+import com.bloggios.authenticationconfig.authentication.AuthorityMaskMethodSecurityExpressionHandler;
 import com.bloggios.authenticationconfig.authentication.BloggiosAuthenticationEntryPoint;
+import com.bloggios.authenticationconfig.authentication.BreadcrumbIdResolver;
+import com.bloggios.authenticationconfig.authentication.ClientIpBinding;
+import com.bloggios.authenticationconfig.authentication.ClientIpResolver;
+import com.bloggios.authenticationconfig.authentication.CookieTokenExtractor;
+import com.bloggios.authenticationconfig.authentication.ErrorResponseWriter;
+import com.bloggios.authenticationconfig.authentication.ErrorResponses;
+import com.bloggios.authenticationconfig.authentication.FailedAuthenticationLimiter;
 import com.bloggios.authenticationconfig.authentication.JwtTokenValidationFilter;
 import com.bloggios.authenticationconfig.authentication.MyAccessDeniedHandler;
-import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.authentication.PathClassifier;
+import com.bloggios.authenticationconfig.authentication.TokenVerifier;
+import com.bloggios.authenticationconfig.metrics.AuthenticationMetrics;
+import com.bloggios.authenticationconfig.util.JwtDecoderUtil;
+import com.bloggios.authenticationconfig.util.RequestPaths;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
-import java.util.List;
-
 /**
  * Owner - Rohit Parihar
  * Author - rohit
@@ -51,43 +67,86 @@ import java.util.List;
  * Created_at - 19 : 31
  */
 
-@Configuration
-@EnableWebSecurity
-@EnableMethodSecurity(
-        securedEnabled = true,
-        jsr250Enabled = true,
-        prePostEnabled = true
+@AutoConfiguration(
+        after = ApplicationBeans.class,
+        before = SecurityAutoConfiguration.class,
+        beforeName = "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration"
 )
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableWebSecurity
 public class SecurityConfiguration {
 
-    private final BloggiosAuthenticationEntryPoint bloggiosAuthenticationEntryPoint;
-    private final JwtTokenValidationFilter jwtTokenValidationFilter;
-    private final SecurityConfigProperties securityConfigProperties;
-    private final MyAccessDeniedHandler myAccessDeniedHandler;
+    @Bean
+    @ConditionalOnMissingBean(ErrorResponseWriter.class)
+    public ErrorResponseWriter errorResponseWriter(
+            ErrorResponses errorResponses
+    ) {
+        return new ErrorResponseWriter(errorResponses);
+    }
 
-    public SecurityConfiguration(
-            BloggiosAuthenticationEntryPoint bloggiosAuthenticationEntryPoint,
-            JwtTokenValidationFilter jwtTokenValidationFilter,
-            SecurityConfigProperties securityConfigProperties,
-            MyAccessDeniedHandler myAccessDeniedHandler
+    @Bean
+    @ConditionalOnMissingBean(BloggiosAuthenticationEntryPoint.class)
+    public BloggiosAuthenticationEntryPoint bloggiosAuthenticationEntryPoint(
+            ErrorResponseWriter errorResponseWriter,
+            ErrorResponses errorResponses
     ) {
-        this.bloggiosAuthenticationEntryPoint = bloggiosAuthenticationEntryPoint;
-        this.jwtTokenValidationFilter = jwtTokenValidationFilter;
-        this.securityConfigProperties = securityConfigProperties;
-        this.myAccessDeniedHandler = myAccessDeniedHandler;
+        return new BloggiosAuthenticationEntryPoint(errorResponseWriter, errorResponses);
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        List<String> paths = securityConfigProperties.getExclude().getPaths();
-        String[] pathArray = new String[paths.size()];
-        paths.toArray(pathArray);
+    @ConditionalOnMissingBean(MyAccessDeniedHandler.class)
+    public MyAccessDeniedHandler myAccessDeniedHandler(
+            ErrorResponseWriter errorResponseWriter,
+            ErrorResponses errorResponses
+    ) {
+        return new MyAccessDeniedHandler(errorResponseWriter, errorResponses);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(JwtTokenValidationFilter.class)
+    public JwtTokenValidationFilter jwtTokenValidationFilter(
+            JwtDecoderUtil jwtDecoderUtil,
+            TokenVerifier tokenVerifier,
+            BreadcrumbIdResolver breadcrumbIdResolver,
+            ClientIpResolver clientIpResolver,
+            ClientIpBinding clientIpBinding,
+            FailedAuthenticationLimiter failedAuthenticationLimiter,
+            ObjectProvider<CookieTokenExtractor> cookieTokenExtractor,
+            PathClassifier pathClassifier,
+            ErrorResponseWriter errorResponseWriter,
+            AuthenticationMetrics authenticationMetrics,
+            ObjectProvider<AuthenticationAuditLog> authenticationAuditLog
+    ) {
+        return new JwtTokenValidationFilter(
+                jwtDecoderUtil,
+                tokenVerifier,
+                breadcrumbIdResolver,
+                clientIpResolver,
+                clientIpBinding,
+                failedAuthenticationLimiter,
+                cookieTokenExtractor.getIfAvailable(),
+                pathClassifier,
+                errorResponseWriter,
+                authenticationMetrics,
+                authenticationAuditLog.getIfAvailable()
+        );
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(SecurityFilterChain.class)
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            BloggiosAuthenticationEntryPoint bloggiosAuthenticationEntryPoint,
+            JwtTokenValidationFilter jwtTokenValidationFilter,
+            PathClassifier pathClassifier,
+            MyAccessDeniedHandler myAccessDeniedHandler
+    ) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(Customizer.withDefaults())
                 .authorizeHttpRequests(auth -> {
                     auth
-                            .antMatchers(pathArray).permitAll()
+                            .requestMatchers(request -> pathClassifier.isExcluded(RequestPaths.pathWithinApplication(request))).permitAll()
                             .anyRequest().authenticated();
                 })
                 .sessionManagement(session -> session
@@ -107,8 +166,19 @@ public class SecurityConfiguration {
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "security-config.method-security", name = "enabled", havingValue = "true", matchIfMissing = true)
+    @EnableMethodSecurity(
+            securedEnabled = true,
+            jsr250Enabled = true,
+            prePostEnabled = true
+    )
+    static class MethodSecurityConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(MethodSecurityExpressionHandler.class)
+        public static MethodSecurityExpressionHandler methodSecurityExpressionHandler() {
+            return new AuthorityMaskMethodSecurityExpressionHandler();
+        }
     }
 }
@@ -38,6 +38,7 @@ import lombok.experimental.UtilityClass;
 public class ServiceConstants {
 
     public static final String BREADCRUMB_ID = "breadcrumbId";
+    public static final String TRACEPARENT = "traceparent";
     public static final String AUTHORIZATION = "Authorization";
     public static final String BYPASSED_IP = "1.1.1.1";
 }
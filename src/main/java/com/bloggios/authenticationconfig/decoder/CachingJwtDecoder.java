@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.decoder;
+
+import com.bloggios.authenticationconfig.util.BoundedCacheSweeper;
+import com.bloggios.authenticationconfig.util.TokenDigest;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.decoder
+ * Created_on - 18 October-2026
+ * Created_at - 11 : 20
+ */
+
+public class CachingJwtDecoder implements ResultJwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final int maxSize;
+    private final Map<TokenDigest, CachedJwt> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final BoundedCacheSweeper<TokenDigest, CachedJwt> sweeper;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Token cache max-size must be greater than 0");
+        }
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.cache = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+        this.sweeper = new BoundedCacheSweeper<>(cache, maxSize, CachedJwt::expiresAt, evictions);
+    }
+
+    @Override
+    public DecodeResult decodeResult(String token) {
+        return decodeResult(token, TokenDigest.of(token));
+    }
+
+    // For callers that already hashed the token for the rejected token cache
+    public DecodeResult decodeResult(String token, TokenDigest digest) {
+        long now = System.currentTimeMillis();
+        CachedJwt cached = cache.get(digest);
+        if (cached != null) {
+            if (now < cached.expiresAt() && cached.jwt().getTokenValue().equals(token)) {
+                hits.increment();
+                return cached.result();
+            }
+            if (cache.remove(digest, cached)) {
+                evictions.increment();
+            }
+        }
+        misses.increment();
+        DecodeResult result = DecodeResult.decode(delegate, token);
+        if (!result.isValid()) {
+            return result;
+        }
+        Instant expiresAt = result.jwt().getExpiresAt();
+        if (expiresAt != null && now < expiresAt.toEpochMilli()) {
+            sweeper.put(digest, new CachedJwt(result, expiresAt.toEpochMilli()), now);
+        }
+        return result;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private record CachedJwt(DecodeResult result, long expiresAt) {
+
+        Jwt jwt() {
+            return result.jwt();
+        }
+    }
+}
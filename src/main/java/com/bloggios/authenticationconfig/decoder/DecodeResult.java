@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.decoder;
+
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.util.StringUtils;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.decoder
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 30
+ */
+
+/**
+ * Outcome of decoding a token without throwing. Expired and not yet valid tokens are detected from the claims with
+ * the same 60 second skew and messages as Spring's {@code JwtTimestampValidator}, so {@link #orElseThrow()} raises
+ * exactly the exception {@code NimbusJwtDecoder} would have raised.
+ */
+public record DecodeResult(Jwt jwt, Status status, String message, OAuth2Error error, JwtException exception) {
+
+    public static final String DECODING_ERROR_MESSAGE_TEMPLATE = "An error occurred while attempting to decode the Jwt: %s";
+
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(60);
+    private static final String ERROR_URI = "https://tools.ietf.org/html/rfc6750#section-3.1";
+
+    public enum Status {
+        VALID,
+        EXPIRED,
+        INVALID_CLAIMS,
+        BAD_SIGNATURE,
+        MALFORMED
+    }
+
+    public static DecodeResult valid(Jwt jwt) {
+        return new DecodeResult(jwt, Status.VALID, null, null, null);
+    }
+
+    /**
+     * Applies the default timestamp rules to a token whose signature has been verified.
+     */
+    public static DecodeResult validated(Jwt jwt) {
+        Instant now = Instant.now();
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt != null && now.minus(CLOCK_SKEW).isAfter(expiresAt)) {
+            return claimsRejected(Status.EXPIRED, String.format("Jwt expired at %s", expiresAt));
+        }
+        Instant notBefore = jwt.getNotBefore();
+        if (notBefore != null && now.plus(CLOCK_SKEW).isBefore(notBefore)) {
+            return claimsRejected(Status.INVALID_CLAIMS, String.format("Jwt used before %s", notBefore));
+        }
+        return valid(jwt);
+    }
+
+    public static DecodeResult rejected(Status status, String reason) {
+        return new DecodeResult(null, status, String.format(DECODING_ERROR_MESSAGE_TEMPLATE, reason), null, null);
+    }
+
+    /**
+     * Classifies what a throwing decoder raised by exception type, and a validation failure describing an expired
+     * token as {@link Status#EXPIRED}; anything that is not a token problem, such as an unreachable JWK set, is
+     * rethrown.
+     */
+    public static DecodeResult rejected(JwtException exception) {
+        if (exception instanceof JwtValidationException validationException) {
+            OAuth2Error error = firstError(validationException);
+            Status status = isExpiry(validationException) ? Status.EXPIRED : Status.INVALID_CLAIMS;
+            return new DecodeResult(null, status, exception.getMessage(), error, exception);
+        }
+        if (exception instanceof BadJwtException) {
+            Status status = isParseFailure(exception) ? Status.MALFORMED : Status.BAD_SIGNATURE;
+            return new DecodeResult(null, status, exception.getMessage(), null, exception);
+        }
+        throw exception;
+    }
+
+    public static DecodeResult decode(JwtDecoder decoder, String token) {
+        if (decoder instanceof ResultJwtDecoder resultJwtDecoder) {
+            return resultJwtDecoder.decodeResult(token);
+        }
+        try {
+            return valid(decoder.decode(token));
+        } catch (JwtException exception) {
+            return rejected(exception);
+        }
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public Jwt orElseThrow() {
+        if (status == Status.VALID) {
+            return jwt;
+        }
+        if (exception != null) {
+            throw exception;
+        }
+        if (error != null) {
+            throw new JwtValidationException(message, List.of(error));
+        }
+        throw new BadJwtException(message);
+    }
+
+    private static DecodeResult claimsRejected(Status status, String description) {
+        OAuth2Error error = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, description, ERROR_URI);
+        return new DecodeResult(null, status, String.format(DECODING_ERROR_MESSAGE_TEMPLATE, description), error, null);
+    }
+
+    private static OAuth2Error firstError(JwtValidationException exception) {
+        for (OAuth2Error error : exception.getErrors()) {
+            if (StringUtils.hasLength(error.getDescription())) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    // JwtTimestampValidator reports "Jwt expired at ..."
+    private static boolean isExpiry(JwtValidationException exception) {
+        for (OAuth2Error error : exception.getErrors()) {
+            String description = error.getDescription();
+            if (description != null && description.toLowerCase(Locale.ROOT).contains("expired")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // NimbusJwtDecoder keeps the java.text.ParseException of an unparseable token or payload as cause
+    private static boolean isParseFailure(Throwable exception) {
+        for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ParseException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.decoder;
+
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.util.JSONObjectUtils;
+import lombok.experimental.UtilityClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.decoder
+ * Created_on - 18 October-2026
+ * Created_at - 15 : 05
+ */
+
+/**
+ * Runs self-generated tokens through the decoder at startup, so provider lookup, class loading and JIT compilation of
+ * the parsing, signature and claim code happen before the first request instead of during it. Tokens with random
+ * signatures exercise the configured keys and must all be rejected; the accepting path is exercised by a token signed
+ * with a throwaway key and verified by a decoder of the same type. Nothing is cached.
+ */
+@UtilityClass
+public class DecoderWarmUp {
+
+    private static final Logger logger = LoggerFactory.getLogger(DecoderWarmUp.class);
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    // ES256 verification is slow until compiled, and the claim code it leads to warms up long before the signature code
+    private static final int ACCEPTED_TOKEN_INTERVAL = 10;
+
+    public static void run(
+            JwtDecoder jwtDecoder,
+            Collection<JwkSetKeyProvider.VerificationKey> keys,
+            Function<JwkSetKeyProvider.VerificationKey, JwtDecoder> decoderFactory,
+            int iterations
+    ) {
+        if (iterations <= 0 || keys.isEmpty()) {
+            return;
+        }
+        List<String> forgedTokens = new ArrayList<>(keys.size());
+        for (JwkSetKeyProvider.VerificationKey key : keys) {
+            forgedTokens.add(encode(header(key)) + "." + encode(claims()) + "." + ENCODER.encodeToString(signature(key)));
+        }
+        long start = System.nanoTime();
+        try {
+            SignedToken signedToken = signedToken();
+            JwtDecoder throwawayDecoder = decoderFactory.apply(signedToken.key());
+            for (int i = 0; i < iterations; i++) {
+                if (DecodeResult.decode(jwtDecoder, forgedTokens.get(i % forgedTokens.size())).isValid()) {
+                    throw new IllegalStateException("The JwtDecoder accepted a token with a forged signature, check the key-provider configuration");
+                }
+                if (i % ACCEPTED_TOKEN_INTERVAL == 0 && !DecodeResult.decode(throwawayDecoder, signedToken.token()).isValid()) {
+                    logger.warn("Stopped the JwtDecoder warm-up, a correctly signed token was rejected");
+                    return;
+                }
+            }
+        } catch (JwtException | GeneralSecurityException e) {
+            logger.warn("Stopped the JwtDecoder warm-up : {}", e.getMessage());
+            return;
+        }
+        logger.info("Warmed up the JwtDecoder with {} verifications in {} ms", iterations, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static SignedToken signedToken() throws GeneralSecurityException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(Curve.P_256.toECParameterSpec());
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        JwkSetKeyProvider.VerificationKey key = new JwkSetKeyProvider.VerificationKey(null, keyPair.getPublic(), JWSAlgorithm.ES256);
+        String signingInput = encode(header(key)) + "." + encode(claims());
+        // The P1363 form is the fixed size r || s that JWS uses, not DER
+        Signature signer = Signature.getInstance("SHA256withECDSAinP1363Format");
+        signer.initSign(keyPair.getPrivate());
+        signer.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return new SignedToken(key, signingInput + "." + ENCODER.encodeToString(signer.sign()));
+    }
+
+    private static String header(JwkSetKeyProvider.VerificationKey key) {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", key.algorithm().getName());
+        header.put("typ", JOSEObjectType.JWT.getType());
+        if (key.keyId() != null) {
+            header.put("kid", key.keyId());
+        }
+        return JSONObjectUtils.toJSONString(header);
+    }
+
+    private static String claims() {
+        long now = Instant.now().getEpochSecond();
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put(JwtClaimNames.SUB, "warm-up");
+        claims.put(JwtClaimNames.IAT, now);
+        claims.put(JwtClaimNames.EXP, now + 300);
+        return JSONObjectUtils.toJSONString(claims);
+    }
+
+    // Sized like a real signature and numerically below the modulus or curve order, so verification runs to the end
+    private static byte[] signature(JwkSetKeyProvider.VerificationKey key) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (key.publicKey() instanceof RSAPublicKey rsaPublicKey) {
+            byte[] signature = new byte[(rsaPublicKey.getModulus().bitLength() + 7) / 8];
+            random.nextBytes(signature);
+            signature[0] = 0;
+            signature[1] |= 1;
+            return signature;
+        }
+        byte[] signature = new byte[64];
+        random.nextBytes(signature);
+        signature[0] &= 0x7F;
+        signature[32] &= 0x7F;
+        return signature;
+    }
+
+    private static String encode(String json) {
+        return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record SignedToken(JwkSetKeyProvider.VerificationKey key, String token) {
+    }
+}
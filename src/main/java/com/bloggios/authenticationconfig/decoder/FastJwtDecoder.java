@@ -0,0 +1,373 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.decoder;
+
+import com.bloggios.authenticationconfig.util.InstancePool;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.decoder
+ * Created_on - 18 October-2026
+ * Created_at - 17 : 25
+ */
+
+public class FastJwtDecoder implements ResultJwtDecoder {
+
+    private static final String INVALID_SIGNATURE = "Signed JWT rejected: Invalid signature";
+    private static final String NO_MATCHING_KEY = "Signed JWT rejected: Another algorithm expected, or no matching key(s) found";
+    private static final long MAX_EPOCH_SECONDS = Long.MAX_VALUE / 1000;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+    private static final Set<String> STRING_CLAIMS = Set.of(JwtClaimNames.SUB, JwtClaimNames.ISS, JwtClaimNames.JTI);
+    private static final Set<String> SUPPORTED_ALGORITHMS = Set.of("RS256", "RS384", "RS512", "ES256");
+    private static final Set<String> INSTANT_CLAIMS = Set.of(JwtClaimNames.EXP, JwtClaimNames.IAT, JwtClaimNames.NBF);
+    private static final Object UNSUPPORTED = new Object();
+
+    private static final InstancePool<Signature> SHA256_WITH_RSA = verifier("SHA256withRSA");
+    private static final InstancePool<Signature> SHA384_WITH_RSA = verifier("SHA384withRSA");
+    private static final InstancePool<Signature> SHA512_WITH_RSA = verifier("SHA512withRSA");
+    private static final InstancePool<Signature> SHA256_WITH_ECDSA = verifier("SHA256withECDSA");
+
+    private final Function<String, JwkSetKeyProvider.VerificationKey> keyResolver;
+    private final JwtDecoder fallback;
+    private final LongAdder fallbacks = new LongAdder();
+
+    public FastJwtDecoder(Function<String, JwkSetKeyProvider.VerificationKey> keyResolver, JwtDecoder fallback) {
+        this.keyResolver = keyResolver;
+        this.fallback = fallback;
+    }
+
+    // Only the canonical shape (alg/typ/kid header, plain typed claims) is decided here, anything unusual goes to the Nimbus decoder
+    @Override
+    public DecodeResult decodeResult(String token) {
+        ParsedToken parsed = parse(token);
+        if (parsed == null) {
+            fallbacks.increment();
+            return DecodeResult.decode(fallback, token);
+        }
+        JwkSetKeyProvider.VerificationKey key = keyResolver.apply(parsed.keyId());
+        if (key == null || !key.algorithm().getName().equals(parsed.algorithm())) {
+            return DecodeResult.rejected(DecodeResult.Status.BAD_SIGNATURE, NO_MATCHING_KEY);
+        }
+        if (!verify(parsed, key)) {
+            return DecodeResult.rejected(DecodeResult.Status.BAD_SIGNATURE, INVALID_SIGNATURE);
+        }
+        Jwt jwt;
+        try {
+            jwt = Jwt.withTokenValue(token)
+                    .headers(headers -> headers.putAll(parsed.headers()))
+                    .claims(claims -> claims.putAll(parsed.claims()))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return DecodeResult.rejected(DecodeResult.Status.MALFORMED, e.getMessage());
+        }
+        return DecodeResult.validated(jwt);
+    }
+
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    private static ParsedToken parse(String token) {
+        int firstDot = -1;
+        int secondDot = -1;
+        int length = token.length();
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c >= 0x80) {
+                return null;
+            }
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    return null;
+                }
+            }
+        }
+        if (secondDot < 0) {
+            return null;
+        }
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+        try {
+            Map<String, Object> headers = parseHeaders(decode(bytes, 0, firstDot));
+            if (headers == null) {
+                return null;
+            }
+            Map<String, Object> claims = parseClaims(decode(bytes, firstDot + 1, secondDot));
+            if (claims == null) {
+                return null;
+            }
+            return new ParsedToken(
+                    (String) headers.get("alg"),
+                    (String) headers.get("kid"),
+                    headers,
+                    claims,
+                    bytes,
+                    secondDot,
+                    decode(bytes, secondDot + 1, length)
+            );
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    private static byte[] decode(byte[] bytes, int from, int to) {
+        ByteBuffer decoded = BASE64_URL.decode(ByteBuffer.wrap(bytes, from, to - from));
+        byte[] array = decoded.array();
+        return decoded.remaining() == array.length ? array : Arrays.copyOf(array, decoded.remaining());
+    }
+
+    private static Map<String, Object> parseHeaders(byte[] header) throws IOException {
+        Map<String, Object> headers = new LinkedHashMap<>(4);
+        try (JsonParser parser = JSON_FACTORY.createParser(header)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                if (!("alg".equals(name) || "typ".equals(name) || "kid".equals(name))
+                        || parser.nextToken() != JsonToken.VALUE_STRING
+                        || headers.put(name, parser.getText()) != null) {
+                    return null;
+                }
+            }
+            if (parser.nextToken() != null) {
+                return null;
+            }
+        }
+        Object algorithm = headers.get("alg");
+        Object type = headers.get("typ");
+        if (algorithm == null || !SUPPORTED_ALGORITHMS.contains(algorithm) || (type != null && !"JWT".equals(type))) {
+            return null;
+        }
+        return headers;
+    }
+
+    // Registered claims get the types Spring's MappedJwtClaimSetConverter produces, every other member keeps the
+    // value Nimbus would parse, so the Jwt carries the same claims either way
+    private static Map<String, Object> parseClaims(byte[] payload) throws IOException {
+        Map<String, Object> claims = new LinkedHashMap<>(16);
+        try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                Object claim;
+                if (STRING_CLAIMS.contains(name)) {
+                    claim = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                } else if (JwtClaimNames.AUD.equals(name)) {
+                    claim = value == JsonToken.START_ARRAY ? stringList(parser) : value == JsonToken.VALUE_STRING ? List.of(parser.getText()) : null;
+                } else if (INSTANT_CLAIMS.contains(name)) {
+                    claim = epochSecond(parser, value);
+                } else {
+                    claim = value(parser, value);
+                }
+                if (claim == null || claim == UNSUPPORTED || claims.put(name, claim) != null) {
+                    return null;
+                }
+            }
+            if (parser.nextToken() != null) {
+                return null;
+            }
+        }
+        // Same default MappedJwtClaimSetConverter applies so that a token carrying only exp still builds
+        Object expiresAt = claims.get(JwtClaimNames.EXP);
+        if (expiresAt != null && !claims.containsKey(JwtClaimNames.IAT)) {
+            claims.put(JwtClaimNames.IAT, ((Instant) expiresAt).minusSeconds(1));
+        }
+        return claims;
+    }
+
+    // Integers become Long like the JSON parser inside Nimbus; decimals and big integers, whose Double or BigDecimal
+    // choice depends on precision there, and duplicate members are left to the fallback
+    private static Object value(JsonParser parser, JsonToken value) throws IOException {
+        return switch (value) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER ? UNSUPPORTED : parser.getLongValue();
+            case START_ARRAY -> array(parser);
+            case START_OBJECT -> object(parser);
+            default -> UNSUPPORTED;
+        };
+    }
+
+    private static Object array(JsonParser parser) throws IOException {
+        List<Object> values = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            Object element = value(parser, token);
+            if (element == UNSUPPORTED) {
+                return UNSUPPORTED;
+            }
+            values.add(element);
+        }
+        return values;
+    }
+
+    private static Object object(JsonParser parser) throws IOException {
+        Map<String, Object> members = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            Object member = value(parser, parser.nextToken());
+            if (member == UNSUPPORTED || members.containsKey(name)) {
+                return UNSUPPORTED;
+            }
+            members.put(name, member);
+        }
+        return members;
+    }
+
+    private static List<String> stringList(JsonParser parser) throws IOException {
+        List<String> values = new ArrayList<>(4);
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.VALUE_STRING) {
+            values.add(parser.getText());
+        }
+        return token == JsonToken.END_ARRAY ? values : null;
+    }
+
+    private static Instant epochSecond(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.VALUE_NUMBER_INT || parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+            return null;
+        }
+        long seconds = parser.getLongValue();
+        return Math.abs(seconds) > MAX_EPOCH_SECONDS ? null : Instant.ofEpochSecond(seconds);
+    }
+
+    private static boolean verify(ParsedToken parsed, JwkSetKeyProvider.VerificationKey key) {
+        byte[] signatureBytes = parsed.signature();
+        InstancePool<Signature> pool;
+        switch (parsed.algorithm()) {
+            case "RS256" -> pool = SHA256_WITH_RSA;
+            case "RS384" -> pool = SHA384_WITH_RSA;
+            case "RS512" -> pool = SHA512_WITH_RSA;
+            case "ES256" -> {
+                if (signatureBytes.length != 64) {
+                    return false;
+                }
+                pool = SHA256_WITH_ECDSA;
+                signatureBytes = toDer(signatureBytes);
+            }
+            default -> {
+                return false;
+            }
+        }
+        Signature signature = pool.borrow();
+        try {
+            signature.initVerify(key.publicKey());
+            signature.update(parsed.token(), 0, parsed.signingInputLength());
+            return signature.verify(signatureBytes);
+        } catch (SignatureException e) {
+            return false;
+        } catch (GeneralSecurityException e) {
+            throw new JwtException(String.format(DecodeResult.DECODING_ERROR_MESSAGE_TEMPLATE, e.getMessage()), e);
+        } finally {
+            pool.release(signature);
+        }
+    }
+
+    // JWS carries ECDSA signatures as fixed length R || S, the JCA verifier expects an ASN.1 SEQUENCE of two INTEGERs
+    static byte[] toDer(byte[] concatenated) {
+        int half = concatenated.length / 2;
+        int rOffset = integerOffset(concatenated, 0, half);
+        int sOffset = integerOffset(concatenated, half, concatenated.length);
+        int rLength = half - rOffset + (concatenated[rOffset] < 0 ? 1 : 0);
+        int sLength = concatenated.length - sOffset + (concatenated[sOffset] < 0 ? 1 : 0);
+        byte[] der = new byte[6 + rLength + sLength];
+        der[0] = 0x30;
+        der[1] = (byte) (4 + rLength + sLength);
+        der[2] = 0x02;
+        der[3] = (byte) rLength;
+        System.arraycopy(concatenated, rOffset, der, 4 + rLength - (half - rOffset), half - rOffset);
+        int sStart = 4 + rLength;
+        der[sStart] = 0x02;
+        der[sStart + 1] = (byte) sLength;
+        System.arraycopy(concatenated, sOffset, der, sStart + 2 + sLength - (concatenated.length - sOffset), concatenated.length - sOffset);
+        return der;
+    }
+
+    // Skips leading zero bytes but always keeps the last one so a zero value is still encoded
+    private static int integerOffset(byte[] bytes, int from, int to) {
+        int offset = from;
+        while (offset < to - 1 && bytes[offset] == 0) {
+            offset++;
+        }
+        return offset;
+    }
+
+    private static InstancePool<Signature> verifier(String algorithm) {
+        return new InstancePool<>(() -> {
+            try {
+                return Signature.getInstance(algorithm);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Signature algorithm " + algorithm + " is not available", e);
+            }
+        });
+    }
+
+    private record ParsedToken(
+            String algorithm,
+            String keyId,
+            Map<String, Object> headers,
+            Map<String, Object> claims,
+            byte[] token,
+            int signingInputLength,
+            byte[] signature
+    ) {
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.decoder;
+
+import com.nimbusds.jose.Algorithm;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.proc.JWSKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.security.Key;
+import java.security.PublicKey;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.decoder
+ * Created_on - 18 October-2026
+ * Created_at - 16 : 40
+ */
+
+public class JwkSetKeyProvider implements JWSKeySelector<SecurityContext>, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwkSetKeyProvider.class);
+    private static final int CONNECT_TIMEOUT_MILLIS = 2000;
+    private static final int READ_TIMEOUT_MILLIS = 2000;
+    private static final int SIZE_LIMIT_BYTES = 256 * 1024;
+
+    private final String jwkSetUri;
+    private final long retentionMillis;
+    private final int minimumKeySize;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Long> retiredAt = new HashMap<>();
+    private final List<Runnable> keySetListeners = new CopyOnWriteArrayList<>();
+    private volatile Map<String, VerificationKey> keys = Collections.emptyMap();
+    private volatile VerificationKey singleKey;
+
+    public JwkSetKeyProvider(String jwkSetUri, Duration refreshInterval, Duration retention, int minimumKeySize) {
+        this.jwkSetUri = jwkSetUri;
+        this.retentionMillis = retention.toMillis();
+        this.minimumKeySize = minimumKeySize;
+        refresh();
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("No usable signing keys found in JWK set " + jwkSetUri);
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bloggios-jwk-set-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public VerificationKey getKey(String keyId) {
+        return keyId == null ? singleKey : keys.get(keyId);
+    }
+
+    public Map<String, VerificationKey> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Runs the listener on the refresh thread whenever a refresh publishes a different set of keys.
+     */
+    public void addKeySetListener(Runnable listener) {
+        keySetListeners.add(listener);
+    }
+
+    @Override
+    public List<? extends Key> selectJWSKeys(JWSHeader header, SecurityContext context) {
+        VerificationKey key = getKey(header.getKeyID());
+        if (key == null || !key.algorithm().equals(header.getAlgorithm())) {
+            return Collections.emptyList();
+        }
+        return key.asList();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            logger.warn("Unable to refresh JWK set from {}, keeping {} known keys : {}", jwkSetUri, keys.size(), e.getMessage());
+        }
+    }
+
+    // Only called from the constructor and the single refresh thread, request threads just read the published map
+    private void refresh() {
+        Map<String, VerificationKey> loaded = index(load());
+        long now = System.currentTimeMillis();
+        Map<String, VerificationKey> published = new HashMap<>(loaded);
+        for (Map.Entry<String, VerificationKey> entry : keys.entrySet()) {
+            String keyId = entry.getKey();
+            if (loaded.containsKey(keyId)) {
+                retiredAt.remove(keyId);
+                continue;
+            }
+            long retired = retiredAt.computeIfAbsent(keyId, id -> now);
+            if (now - retired < retentionMillis) {
+                published.put(keyId, entry.getValue());
+            } else {
+                retiredAt.remove(keyId);
+                logger.info("Dropped signing key {} after its retention window", keyId);
+            }
+        }
+        Map<String, VerificationKey> previous = keys;
+        keys = Map.copyOf(published);
+        // A token without a kid goes to the one key the set currently publishes, retained keys need their kid
+        singleKey = loaded.size() == 1 ? loaded.values().iterator().next() : null;
+        if (!previous.isEmpty() && !previous.equals(keys)) {
+            keySetListeners.forEach(Runnable::run);
+        }
+    }
+
+    private JWKSet load() {
+        try {
+            if (jwkSetUri.startsWith("http://") || jwkSetUri.startsWith("https://")) {
+                return JWKSet.load(new URL(jwkSetUri), CONNECT_TIMEOUT_MILLIS, READ_TIMEOUT_MILLIS, SIZE_LIMIT_BYTES);
+            }
+            Resource resource = new DefaultResourceLoader().getResource(jwkSetUri);
+            try (InputStream inputStream = resource.getInputStream()) {
+                return JWKSet.load(inputStream);
+            }
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Unable to load JWK set from " + jwkSetUri + " : " + e.getMessage(), e);
+        }
+    }
+
+    private Map<String, VerificationKey> index(JWKSet jwkSet) {
+        Map<String, VerificationKey> indexed = new HashMap<>();
+        List<JWK> signingKeys = jwkSet.getKeys().stream()
+                .filter(jwk -> jwk.getKeyUse() == null || KeyUse.SIGNATURE.equals(jwk.getKeyUse()))
+                .toList();
+        for (JWK jwk : signingKeys) {
+            String keyId = jwk.getKeyID();
+            if (keyId == null && signingKeys.size() > 1) {
+                logger.warn("Skipping a JWK without a kid, a set with several signing keys needs a kid on each of them");
+                continue;
+            }
+            try {
+                VerificationKey key = toVerificationKey(jwk);
+                if (key != null) {
+                    VerificationKeyLoader.check(key, minimumKeySize);
+                    // The thumbprint only names a kid-less key in the map, so a rotation to another kid-less key is still noticed
+                    indexed.put(keyId != null ? keyId : jwk.computeThumbprint().toString(), key);
+                }
+            } catch (JOSEException | IllegalArgumentException e) {
+                logger.warn("Skipping JWK {} : {}", keyId, e.getMessage());
+            }
+        }
+        return indexed;
+    }
+
+    static VerificationKey toVerificationKey(JWK jwk) throws JOSEException {
+        Algorithm algorithm = jwk.getAlgorithm();
+        if (jwk instanceof RSAKey rsaKey) {
+            JWSAlgorithm jwsAlgorithm = algorithm == null ? JWSAlgorithm.RS256 : JWSAlgorithm.parse(algorithm.getName());
+            return JWSAlgorithm.Family.RSA.contains(jwsAlgorithm) ? new VerificationKey(rsaKey.getKeyID(), rsaKey.toRSAPublicKey(), jwsAlgorithm) : null;
+        }
+        if (jwk instanceof ECKey ecKey && Curve.P_256.equals(ecKey.getCurve())) {
+            JWSAlgorithm jwsAlgorithm = algorithm == null ? JWSAlgorithm.ES256 : JWSAlgorithm.parse(algorithm.getName());
+            return JWSAlgorithm.ES256.equals(jwsAlgorithm) ? new VerificationKey(ecKey.getKeyID(), ecKey.toECPublicKey(), jwsAlgorithm) : null;
+        }
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    public record VerificationKey(String keyId, PublicKey publicKey, JWSAlgorithm algorithm, List<Key> asList) {
+
+        public VerificationKey(String keyId, PublicKey publicKey, JWSAlgorithm algorithm) {
+            this(keyId, publicKey, algorithm, List.of(publicKey));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.decoder;
+
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.decoder
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 40
+ */
+
+/**
+ * Runs Nimbus for parsing and signature checks only and applies the timestamp rules itself, so an expired token is
+ * reported as {@link DecodeResult.Status#EXPIRED} without a {@code JwtValidationException} being built.
+ */
+public class ValidatingJwtDecoder implements ResultJwtDecoder {
+
+    private final NimbusJwtDecoder delegate;
+
+    public ValidatingJwtDecoder(NimbusJwtDecoder delegate) {
+        delegate.setJwtValidator(jwt -> OAuth2TokenValidatorResult.success());
+        this.delegate = delegate;
+    }
+
+    @Override
+    public DecodeResult decodeResult(String token) {
+        try {
+            return DecodeResult.validated(delegate.decode(token));
+        } catch (JwtException exception) {
+            return DecodeResult.rejected(exception);
+        }
+    }
+}
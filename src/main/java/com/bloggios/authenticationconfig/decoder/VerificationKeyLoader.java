@@ -0,0 +1,294 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.decoder;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import lombok.experimental.UtilityClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyStore;
+import java.security.PublicKey;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.decoder
+ * Created_on - 18 October-2026
+ * Created_at - 14 : 20
+ */
+
+/**
+ * Reads the configured verification key once at startup. {@code public-key} is a resource location or inline PEM/JSON
+ * holding a PEM public key, PKCS#1 RSA key or X.509 certificate, the same in DER, a JWK or JWK set, or a PKCS#12
+ * keystore. Anything unusable, including private keys and weak RSA keys, stops the application with the reason.
+ */
+@UtilityClass
+public class VerificationKeyLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerificationKeyLoader.class);
+    private static final String PEM_BEGIN = "-----BEGIN ";
+    private static final String PEM_DASHES = "-----";
+
+    public static JwkSetKeyProvider.VerificationKey load(SecurityConfigProperties.KeyProvider keyProvider) {
+        String publicKey = keyProvider.getPublicKey().trim();
+        boolean inline = publicKey.startsWith(PEM_BEGIN) || publicKey.startsWith("{");
+        String source = inline ? "the inline security-config.key-provider.public-key" : publicKey;
+        try {
+            byte[] content = inline ? publicKey.getBytes(StandardCharsets.UTF_8) : read(publicKey);
+            JwkSetKeyProvider.VerificationKey key = parse(content, source, keyProvider);
+            check(key, keyProvider.getMinimumKeySize());
+            logger.info("Loaded {} verification key ({}) from {}", key.algorithm(), describe(key.publicKey()), source);
+            return key;
+        } catch (IOException | GeneralSecurityException | ParseException | JOSEException | IllegalArgumentException e) {
+            throw new IllegalStateException("Unable to load the verification key from " + source + " : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Rejects keys that are too weak for the configured minimum; also applied to every key of a JWK set.
+     */
+    public static void check(JwkSetKeyProvider.VerificationKey key, int minimumKeySize) {
+        if (key.publicKey() instanceof RSAPublicKey rsaPublicKey && rsaPublicKey.getModulus().bitLength() < minimumKeySize) {
+            throw new IllegalArgumentException(String.format(
+                    "%d bit RSA key is below security-config.key-provider.minimum-key-size of %d bits",
+                    rsaPublicKey.getModulus().bitLength(), minimumKeySize
+            ));
+        }
+    }
+
+    private static byte[] read(String location) throws IOException {
+        Resource resource = new DefaultResourceLoader().getResource(location);
+        if (!resource.exists()) {
+            throw new IOException("no such resource");
+        }
+        try (InputStream inputStream = resource.getInputStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private static JwkSetKeyProvider.VerificationKey parse(byte[] content, String source, SecurityConfigProperties.KeyProvider keyProvider) throws IOException, GeneralSecurityException, ParseException, JOSEException {
+        String lowerCaseSource = source.toLowerCase(Locale.ROOT);
+        if (lowerCaseSource.endsWith(".p12") || lowerCaseSource.endsWith(".pfx")) {
+            return toVerificationKey(pkcs12(content, keyProvider), null);
+        }
+        String text = new String(content, StandardCharsets.UTF_8).trim();
+        if (text.startsWith("{")) {
+            return jwk(text, keyProvider.getKeyAlias());
+        }
+        if (text.contains(PEM_BEGIN)) {
+            return toVerificationKey(pem(text), null);
+        }
+        return toVerificationKey(der(content, keyProvider), null);
+    }
+
+    private static PublicKey pem(String text) throws GeneralSecurityException, IOException {
+        int begin = text.indexOf(PEM_BEGIN);
+        int typeEnd = text.indexOf(PEM_DASHES, begin + PEM_BEGIN.length());
+        if (typeEnd < 0) {
+            throw new IOException("malformed PEM header");
+        }
+        String type = text.substring(begin + PEM_BEGIN.length(), typeEnd);
+        String footer = "-----END " + type + PEM_DASHES;
+        int end = text.indexOf(footer, typeEnd);
+        if (end < 0) {
+            throw new IOException("missing " + footer);
+        }
+        byte[] der = Base64.getMimeDecoder().decode(text.substring(typeEnd + PEM_DASHES.length(), end));
+        return switch (type) {
+            case "PUBLIC KEY" -> subjectPublicKeyInfo(der);
+            case "RSA PUBLIC KEY" -> pkcs1(der);
+            case "CERTIFICATE" -> certificate(der).getPublicKey();
+            default -> throw new IOException(type.endsWith("PRIVATE KEY")
+                    ? "found a " + type + ", configure the public key or certificate instead"
+                    : "unsupported PEM type " + type);
+        };
+    }
+
+    // DER has no header, so the encodings are tried from the most to the least common
+    private static PublicKey der(byte[] content, SecurityConfigProperties.KeyProvider keyProvider) throws GeneralSecurityException, IOException {
+        try {
+            return subjectPublicKeyInfo(content);
+        } catch (InvalidKeySpecException e) {
+            // not a public key
+        }
+        try {
+            return certificate(content).getPublicKey();
+        } catch (GeneralSecurityException e) {
+            // not a certificate
+        }
+        try {
+            return pkcs12(content, keyProvider);
+        } catch (IOException e) {
+            throw new IOException("not a PEM, DER, JWK or PKCS#12 encoded key");
+        }
+    }
+
+    private static PublicKey subjectPublicKeyInfo(byte[] der) throws GeneralSecurityException {
+        X509EncodedKeySpec keySpec = new X509EncodedKeySpec(der);
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(keySpec);
+        } catch (InvalidKeySpecException e) {
+            return KeyFactory.getInstance("EC").generatePublic(keySpec);
+        }
+    }
+
+    // RSAPublicKey ::= SEQUENCE { modulus INTEGER, publicExponent INTEGER }
+    private static PublicKey pkcs1(byte[] der) throws GeneralSecurityException, IOException {
+        DerReader sequence = new DerReader(new DerReader(der).next(0x30));
+        BigInteger modulus = new BigInteger(sequence.next(0x02));
+        BigInteger exponent = new BigInteger(sequence.next(0x02));
+        return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+    }
+
+    private static X509Certificate certificate(byte[] der) throws GeneralSecurityException {
+        X509Certificate certificate = (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(der));
+        if (certificate.getNotAfter().before(new Date())) {
+            logger.warn("Verification certificate {} expired on {}, only its public key is used", certificate.getSubjectX500Principal(), certificate.getNotAfter());
+        }
+        return certificate;
+    }
+
+    private static PublicKey pkcs12(byte[] content, SecurityConfigProperties.KeyProvider keyProvider) throws GeneralSecurityException, IOException {
+        String password = keyProvider.getKeyStorePassword();
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(new ByteArrayInputStream(content), password == null ? new char[0] : password.toCharArray());
+        String alias = keyProvider.getKeyAlias();
+        if (!StringUtils.hasText(alias)) {
+            List<String> aliases = new ArrayList<>();
+            for (String candidate : Collections.list(keyStore.aliases())) {
+                if (keyStore.getCertificate(candidate) != null) {
+                    aliases.add(candidate);
+                }
+            }
+            if (aliases.size() != 1) {
+                throw new IOException("keystore holds " + aliases.size() + " certificates, set security-config.key-provider.key-alias");
+            }
+            alias = aliases.get(0);
+        }
+        if (!(keyStore.getCertificate(alias) instanceof X509Certificate x509Certificate)) {
+            throw new IOException("keystore has no certificate under alias " + alias);
+        }
+        return certificate(x509Certificate.getEncoded()).getPublicKey();
+    }
+
+    private static JwkSetKeyProvider.VerificationKey jwk(String json, String keyId) throws ParseException, JOSEException, IOException {
+        List<JWK> candidates = new ArrayList<>();
+        for (JWK jwk : json.contains("\"keys\"") ? JWKSet.parse(json).getKeys() : List.of(JWK.parse(json))) {
+            boolean signing = jwk.getKeyUse() == null || KeyUse.SIGNATURE.equals(jwk.getKeyUse());
+            if (signing && (!StringUtils.hasText(keyId) || keyId.equals(jwk.getKeyID()))) {
+                candidates.add(jwk);
+            }
+        }
+        if (candidates.size() != 1) {
+            throw new IOException(candidates.size() + " signing keys match, set security-config.key-provider.key-alias to the kid"
+                    + " or use jwk-set-uri to verify against the whole set");
+        }
+        JWK jwk = candidates.get(0);
+        if (jwk.isPrivate()) {
+            logger.warn("JWK {} contains private key material, only its public part is used", jwk.getKeyID());
+        }
+        JwkSetKeyProvider.VerificationKey key = JwkSetKeyProvider.toVerificationKey(jwk);
+        if (key == null) {
+            throw new IOException("unsupported key type or algorithm, expected RSA or P-256 EC");
+        }
+        return key;
+    }
+
+    private static JwkSetKeyProvider.VerificationKey toVerificationKey(PublicKey publicKey, String keyId) throws IOException {
+        if (publicKey instanceof RSAPublicKey) {
+            return new JwkSetKeyProvider.VerificationKey(keyId, publicKey, JWSAlgorithm.RS256);
+        }
+        if (publicKey instanceof ECPublicKey ecPublicKey && Curve.P_256.equals(Curve.forECParameterSpec(ecPublicKey.getParams()))) {
+            return new JwkSetKeyProvider.VerificationKey(keyId, publicKey, JWSAlgorithm.ES256);
+        }
+        throw new IOException("unsupported " + publicKey.getAlgorithm() + " key, expected RSA or P-256 EC");
+    }
+
+    private static String describe(PublicKey publicKey) {
+        return publicKey instanceof RSAPublicKey rsaPublicKey ? rsaPublicKey.getModulus().bitLength() + " bit RSA" : "P-256 EC";
+    }
+
+    private static final class DerReader {
+
+        private final byte[] der;
+        private int position;
+
+        DerReader(byte[] der) {
+            this.der = der;
+        }
+
+        byte[] next(int expectedTag) throws IOException {
+            if (position + 2 > der.length || (der[position++] & 0xFF) != expectedTag) {
+                throw new IOException("malformed PKCS#1 key");
+            }
+            int length = der[position++] & 0xFF;
+            if (length > 0x7F) {
+                int octets = length & 0x7F;
+                length = 0;
+                for (int i = 0; i < octets && position < der.length; i++) {
+                    length = (length << 8) | (der[position++] & 0xFF);
+                }
+            }
+            if (length < 0 || position + length > der.length) {
+                throw new IOException("malformed PKCS#1 key");
+            }
+            byte[] value = new byte[length];
+            System.arraycopy(der, position, value, 0, length);
+            position += length;
+            return value;
+        }
+    }
+}
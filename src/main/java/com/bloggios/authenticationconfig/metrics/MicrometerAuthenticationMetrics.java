@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.metrics;
+
+import com.bloggios.authenticationconfig.audit.AuthenticationAuditLog;
+import com.bloggios.authenticationconfig.authentication.AuthenticationMode;
+import com.bloggios.authenticationconfig.authentication.AuthenticationOutcome;
+import com.bloggios.authenticationconfig.authentication.RejectedTokenCache;
+import com.bloggios.authenticationconfig.decoder.CachingJwtDecoder;
+import com.bloggios.authenticationconfig.password.PasswordOperation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.metrics
+ * Created_on - 18 October-2026
+ * Created_at - 15 : 50
+ */
+
+public class MicrometerAuthenticationMetrics implements AuthenticationMetrics {
+
+    private static final String PREFIX = "bloggios.auth.";
+    private static final AuthenticationMode[] MODES = AuthenticationMode.values();
+    private static final AuthenticationOutcome[] OUTCOMES = AuthenticationOutcome.values();
+    private static final PasswordOperation[] PASSWORD_OPERATIONS = PasswordOperation.values();
+
+    private final Timer[] pathClassificationTimers = new Timer[MODES.length];
+    private final Timer[][] verificationTimers = new Timer[MODES.length][OUTCOMES.length];
+    private final Timer[] errorWriteTimers = new Timer[OUTCOMES.length];
+    private final Counter[][] outcomeCounters = new Counter[MODES.length][OUTCOMES.length];
+    private final Timer[] passwordHashTimers = new Timer[PASSWORD_OPERATIONS.length];
+    private final Counter[] passwordRejectionCounters = new Counter[PASSWORD_OPERATIONS.length];
+    private final Timer claimExtractionTimer;
+
+    public MicrometerAuthenticationMetrics(MeterRegistry meterRegistry) {
+        for (AuthenticationMode mode : MODES) {
+            pathClassificationTimers[mode.ordinal()] = Timer.builder(PREFIX + "path.classification")
+                    .description("Time spent classifying the request path")
+                    .tag("mode", tag(mode))
+                    .register(meterRegistry);
+            for (AuthenticationOutcome outcome : OUTCOMES) {
+                verificationTimers[mode.ordinal()][outcome.ordinal()] = Timer.builder(PREFIX + "verification")
+                        .description("Time spent decoding and verifying the token")
+                        .tag("mode", tag(mode))
+                        .tag("outcome", tag(outcome))
+                        .register(meterRegistry);
+                outcomeCounters[mode.ordinal()][outcome.ordinal()] = Counter.builder(PREFIX + "requests")
+                        .description("Authentication decisions taken by the filter")
+                        .tag("mode", tag(mode))
+                        .tag("outcome", tag(outcome))
+                        .register(meterRegistry);
+            }
+        }
+        for (AuthenticationOutcome outcome : OUTCOMES) {
+            errorWriteTimers[outcome.ordinal()] = Timer.builder(PREFIX + "error.write")
+                    .description("Time spent writing the authentication error response")
+                    .tag("outcome", tag(outcome))
+                    .register(meterRegistry);
+        }
+        claimExtractionTimer = Timer.builder(PREFIX + "claims.extraction")
+                .description("Time spent building the authenticated principal from the token claims")
+                .register(meterRegistry);
+        for (PasswordOperation operation : PASSWORD_OPERATIONS) {
+            passwordHashTimers[operation.ordinal()] = Timer.builder(PREFIX + "password.hash")
+                    .description("Time spent hashing or verifying a password on the hashing pool")
+                    .tag("operation", tag(operation))
+                    .register(meterRegistry);
+            passwordRejectionCounters[operation.ordinal()] = Counter.builder(PREFIX + "password.rejected")
+                    .description("Password hashing requests rejected because the hashing pool was saturated")
+                    .tag("operation", tag(operation))
+                    .register(meterRegistry);
+        }
+    }
+
+    public static void bindTokenCache(MeterRegistry meterRegistry, CachingJwtDecoder cachingJwtDecoder) {
+        FunctionCounter.builder(PREFIX + "token.cache.hits", cachingJwtDecoder, CachingJwtDecoder::getHitCount).register(meterRegistry);
+        FunctionCounter.builder(PREFIX + "token.cache.misses", cachingJwtDecoder, CachingJwtDecoder::getMissCount).register(meterRegistry);
+        FunctionCounter.builder(PREFIX + "token.cache.evictions", cachingJwtDecoder, CachingJwtDecoder::getEvictionCount).register(meterRegistry);
+        Gauge.builder(PREFIX + "token.cache.size", cachingJwtDecoder, CachingJwtDecoder::size).register(meterRegistry);
+    }
+
+    public static void bindRejectedTokenCache(MeterRegistry meterRegistry, RejectedTokenCache rejectedTokenCache) {
+        FunctionCounter.builder(PREFIX + "rejected.cache.hits", rejectedTokenCache, RejectedTokenCache::getHitCount).register(meterRegistry);
+        FunctionCounter.builder(PREFIX + "rejected.cache.insertions", rejectedTokenCache, RejectedTokenCache::getInsertionCount).register(meterRegistry);
+        FunctionCounter.builder(PREFIX + "rejected.cache.evictions", rejectedTokenCache, RejectedTokenCache::getEvictionCount).register(meterRegistry);
+        Gauge.builder(PREFIX + "rejected.cache.size", rejectedTokenCache, RejectedTokenCache::size).register(meterRegistry);
+    }
+
+    public static void bindAuditLog(MeterRegistry meterRegistry, AuthenticationAuditLog authenticationAuditLog) {
+        FunctionCounter.builder(PREFIX + "audit.published", authenticationAuditLog, AuthenticationAuditLog::getPublishedCount).register(meterRegistry);
+        FunctionCounter.builder(PREFIX + "audit.dropped", authenticationAuditLog, AuthenticationAuditLog::getDroppedCount).register(meterRegistry);
+        FunctionCounter.builder(PREFIX + "audit.written", authenticationAuditLog, AuthenticationAuditLog::getWrittenCount).register(meterRegistry);
+        FunctionCounter.builder(PREFIX + "audit.failed", authenticationAuditLog, AuthenticationAuditLog::getFailedCount).register(meterRegistry);
+        Gauge.builder(PREFIX + "audit.backlog", authenticationAuditLog, AuthenticationAuditLog::getBacklog).register(meterRegistry);
+    }
+
+    @Override
+    public long start() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void recordPathClassification(long start, AuthenticationMode mode) {
+        pathClassificationTimers[mode.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordVerification(long start, AuthenticationMode mode, AuthenticationOutcome outcome) {
+        verificationTimers[mode.ordinal()][outcome.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordClaimExtraction(long start) {
+        claimExtractionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordErrorWrite(long start, AuthenticationOutcome outcome) {
+        errorWriteTimers[outcome.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordOutcome(AuthenticationMode mode, AuthenticationOutcome outcome) {
+        outcomeCounters[mode.ordinal()][outcome.ordinal()].increment();
+    }
+
+    @Override
+    public void recordPasswordHash(long start, PasswordOperation operation) {
+        passwordHashTimers[operation.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPasswordRejection(PasswordOperation operation) {
+        passwordRejectionCounters[operation.ordinal()].increment();
+    }
+
+    private static String tag(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.password;
+
+import com.bloggios.authenticationconfig.metrics.AuthenticationMetrics;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.password
+ * Created_on - 18 October-2026
+ * Created_at - 13 : 45
+ */
+
+/**
+ * Runs password hashing on a small dedicated pool so a login spike queues here instead of holding every request thread.
+ * When the queue is full, or a hash does not complete within {@code max-wait}, the caller gets a
+ * {@link RejectedExecutionException} straight away.
+ */
+public class BulkheadPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final AuthenticationMetrics authenticationMetrics;
+
+    public BulkheadPasswordEncoder(
+            PasswordEncoder delegate,
+            SecurityConfigProperties.Password properties,
+            AuthenticationMetrics authenticationMetrics
+    ) {
+        this.delegate = delegate;
+        this.maxWait = properties.getMaxWait();
+        this.authenticationMetrics = authenticationMetrics;
+        AtomicInteger threadCount = new AtomicInteger();
+        int threads = Math.max(1, properties.getThreads());
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueSize())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bloggios-password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(PasswordOperation.ENCODE, () -> timedEncode(PasswordOperation.ENCODE, rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(PasswordOperation.MATCHES, () -> timedMatches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Checks the password and, on a match against an outdated hash, rehashes it with the current policy in the same
+     * pool slot.
+     */
+    public PasswordMatch verify(CharSequence rawPassword, String encodedPassword) {
+        return submit(PasswordOperation.MATCHES, () -> {
+            if (!timedMatches(rawPassword, encodedPassword)) {
+                return PasswordMatch.MISMATCH;
+            }
+            if (!delegate.upgradeEncoding(encodedPassword)) {
+                return PasswordMatch.CURRENT;
+            }
+            return new PasswordMatch(true, timedEncode(PasswordOperation.REHASH, rawPassword));
+        });
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private String timedEncode(PasswordOperation operation, CharSequence rawPassword) {
+        long start = authenticationMetrics.start();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            authenticationMetrics.recordPasswordHash(start, operation);
+        }
+    }
+
+    private boolean timedMatches(CharSequence rawPassword, String encodedPassword) {
+        long start = authenticationMetrics.start();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            authenticationMetrics.recordPasswordHash(start, PasswordOperation.MATCHES);
+        }
+    }
+
+    private <T> T submit(PasswordOperation operation, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            authenticationMetrics.recordPasswordRejection(operation);
+            throw new RejectedExecutionException("Password hashing is saturated, " + executor.getQueue().size() + " hashes are already waiting", e);
+        }
+        try {
+            return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            authenticationMetrics.recordPasswordRejection(operation);
+            throw new RejectedExecutionException("Password hashing did not complete within " + maxWait.toMillis() + " ms");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
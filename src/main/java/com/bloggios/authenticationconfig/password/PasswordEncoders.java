@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.password;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import lombok.experimental.UtilityClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.password
+ * Created_on - 18 October-2026
+ * Created_at - 13 : 30
+ */
+
+/**
+ * Builds the delegating encoder behind {@link BulkheadPasswordEncoder}. Hashes are written as {@code {id}hash}, bare
+ * BCrypt hashes from earlier versions still match and report that they need an upgrade. The bcrypt and argon2 costs
+ * are calibrated at startup against the target latency; both formats record their cost in the hash, so instances that
+ * calibrate differently still verify each other's hashes. PBKDF2 hashes do not, so it keeps Spring's fixed defaults.
+ */
+@UtilityClass
+public class PasswordEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+    public static final String ARGON2 = "argon2";
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordEncoders.class);
+    private static final boolean ARGON2_PRESENT = ClassUtils.isPresent(
+            "org.bouncycastle.crypto.params.Argon2Parameters", PasswordEncoders.class.getClassLoader());
+    private static final String CALIBRATION_PASSWORD = "bloggios-calibration";
+    private static final int CALIBRATION_RUNS = 3;
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int ARGON2_PARALLELISM = 1;
+    private static final int ARGON2_MEMORY = 1 << 12;
+    private static final int ARGON2_ITERATIONS = 3;
+    private static final int ARGON2_MAX_DOUBLINGS = 5;
+
+    public static PasswordEncoder create(SecurityConfigProperties.Password properties) {
+        String encodingId = properties.getEncodingId();
+        if (ARGON2.equals(encodingId) && !ARGON2_PRESENT) {
+            throw new IllegalStateException("security-config.password.encoding-id is argon2 but BouncyCastle (org.bouncycastle:bcprov-jdk18on) is not on the classpath");
+        }
+        if (!BCRYPT.equals(encodingId) && !PBKDF2.equals(encodingId) && !ARGON2.equals(encodingId)) {
+            throw new IllegalStateException("Unsupported security-config.password.encoding-id " + encodingId + ", expected bcrypt, pbkdf2 or argon2");
+        }
+        boolean calibrate = properties.isCalibrate();
+        Duration targetLatency = properties.getTargetLatency();
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        int strength = BCRYPT.equals(encodingId) && calibrate
+                ? calibrate(BCRYPT, BCryptPasswordEncoder::new, properties.getMinimumBcryptStrength(), properties.getMaximumBcryptStrength(), targetLatency)
+                : properties.getMinimumBcryptStrength();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(PBKDF2, new Pbkdf2PasswordEncoder());
+        if (ARGON2_PRESENT) {
+            int doublings = ARGON2.equals(encodingId) && calibrate
+                    ? calibrate(ARGON2, PasswordEncoders::argon2, 0, ARGON2_MAX_DOUBLINGS, targetLatency)
+                    : 0;
+            encoders.put(ARGON2, argon2(doublings));
+        }
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(encodingId, encoders);
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegatingPasswordEncoder;
+    }
+
+    /**
+     * Returns the highest cost between the bounds whose hash still fits the target latency, assuming every cost step
+     * doubles the work. Only the minimum cost is measured.
+     */
+    static int calibrate(
+            String encodingId,
+            IntFunction<PasswordEncoder> encoderForCost,
+            int minimumCost,
+            int maximumCost,
+            Duration targetLatency
+    ) {
+        PasswordEncoder encoder = encoderForCost.apply(minimumCost);
+        encoder.encode(CALIBRATION_PASSWORD);
+        long fastest = Long.MAX_VALUE;
+        for (int run = 0; run < CALIBRATION_RUNS; run++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        long headroom = targetLatency.toNanos() / Math.max(1L, fastest);
+        int steps = headroom == 0 ? 0 : 63 - Long.numberOfLeadingZeros(headroom);
+        int cost = Math.min(maximumCost, minimumCost + steps);
+        logger.info("Calibrated {} password hashing to cost {}, {} ms at cost {} against a target of {} ms",
+                encodingId, cost, fastest / 1_000_000, minimumCost, targetLatency.toMillis());
+        return cost;
+    }
+
+    private static PasswordEncoder argon2(int doublings) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, ARGON2_PARALLELISM, ARGON2_MEMORY, ARGON2_ITERATIONS << doublings);
+    }
+}
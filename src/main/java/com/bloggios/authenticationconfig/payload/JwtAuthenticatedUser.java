@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.payload;
+
+import com.bloggios.authenticationconfig.util.JwtDecoderUtil;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.payload
+ * Created_on - 18 October-2026
+ * Created_at - 17 : 40
+ */
+
+/**
+ * {@link AuthenticatedUser} backed by the verified {@link Jwt}. Each getter reads its claim on first access and
+ * keeps the result, so claims a request never looks at are never converted. Setters override the claim value.
+ * <p>
+ * {@code username} is still populated up front because it is exposed as a public field.
+ */
+public class JwtAuthenticatedUser extends AuthenticatedUser {
+
+    private static final String UNSET = new String();
+
+    private final transient Jwt jwt;
+    private final transient JwtDecoderUtil jwtDecoderUtil;
+
+    private volatile String userId = UNSET;
+    private volatile String email = UNSET;
+    private volatile String clientIp = UNSET;
+    private volatile Boolean badge;
+    private volatile Collection<? extends GrantedAuthority> authorities;
+
+    public JwtAuthenticatedUser(Jwt jwt, JwtDecoderUtil jwtDecoderUtil) {
+        this.jwt = jwt;
+        this.jwtDecoderUtil = jwtDecoderUtil;
+        this.username = jwtDecoderUtil.extractUsername(jwt);
+    }
+
+    @Override
+    public String getUserId() {
+        String value = userId;
+        if (value == UNSET) {
+            value = jwtDecoderUtil.extractUserId(jwt);
+            userId = value;
+        }
+        return value;
+    }
+
+    @Override
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    @Override
+    public String getEmail() {
+        String value = email;
+        if (value == UNSET) {
+            value = jwtDecoderUtil.extractEmail(jwt);
+            email = value;
+        }
+        return value;
+    }
+
+    @Override
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    @Override
+    public String getClientIp() {
+        String value = clientIp;
+        if (value == UNSET) {
+            value = jwtDecoderUtil.extractClientIp(jwt);
+            clientIp = value;
+        }
+        return value;
+    }
+
+    @Override
+    public void setClientIp(String clientIp) {
+        this.clientIp = clientIp;
+    }
+
+    @Override
+    public boolean isBadge() {
+        Boolean value = badge;
+        if (value == null) {
+            String userBadge = jwtDecoderUtil.extractBadge(jwt);
+            value = StringUtils.hasText(userBadge) && Boolean.parseBoolean(userBadge);
+            badge = value;
+        }
+        return value;
+    }
+
+    @Override
+    public void setBadge(boolean isBadge) {
+        this.badge = isBadge;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        Collection<? extends GrantedAuthority> value = authorities;
+        if (value == null) {
+            value = jwtDecoderUtil.extractAuthorities(jwt);
+            authorities = value;
+        }
+        return value;
+    }
+
+    @Override
+    public void setAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        this.authorities = authorities;
+    }
+}
@@ -26,9 +26,9 @@ package com.bloggios.authenticationconfig.properties;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
-import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -42,7 +42,6 @@ import java.util.List;
  */
 
 @ConfigurationProperties(prefix = "security-config")
-@Configuration
 @Getter
 @Setter
 public class SecurityConfigProperties {
@@ -50,6 +49,17 @@ public class SecurityConfigProperties {
     private Exclude exclude;
     private KeyProvider keyProvider = new KeyProvider();
     private Cookie cookie;
+    private TokenCache tokenCache = new TokenCache();
+    private RejectedTokenCache rejectedTokenCache = new RejectedTokenCache();
+    private Metrics metrics = new Metrics();
+    private Reactive reactive = new Reactive();
+    private ClientIp clientIp = new ClientIp();
+    private RateLimit rateLimit = new RateLimit();
+    private VirtualThreads virtualThreads = new VirtualThreads();
+    private Breadcrumb breadcrumb = new Breadcrumb();
+    private Revocation revocation = new Revocation();
+    private Password password = new Password();
+    private Audit audit = new Audit();
 
     @Getter
     @Setter
@@ -60,7 +70,20 @@ public class SecurityConfigProperties {
     @Getter
     @Setter
     public static class KeyProvider {
-        private RSAPublicKey publicKey;
+        private String publicKey;
+        private String keyStorePassword;
+        private String keyAlias;
+        private int minimumKeySize = 2048;
+        private int warmUpIterations = 500;
+        private String jwkSetUri;
+        private Duration jwkSetRefreshInterval = Duration.ofMinutes(5);
+        private Duration jwkSetKeyRetention = Duration.ofHours(1);
+        private DecoderType decoder = DecoderType.NIMBUS;
+    }
+
+    public enum DecoderType {
+        NIMBUS,
+        FAST
     }
 
     @Getter
@@ -70,4 +93,103 @@ public class SecurityConfigProperties {
         private String cookieName;
         private List<String> paths = new ArrayList<>();
     }
+
+    @Getter
+    @Setter
+    public static class TokenCache {
+        private boolean enabled = false;
+        private int maxSize = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class RejectedTokenCache {
+        private boolean enabled = true;
+        private int maxSize = 4096;
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Metrics {
+        private boolean enabled = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Reactive {
+        private boolean offloadVerification = true;
+        private int verificationThreads = Runtime.getRuntime().availableProcessors();
+        private int verificationQueueSize = 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class ClientIp {
+        private List<String> trustedProxies = new ArrayList<>();
+        private boolean forwardedHeader = true;
+        private int ipv4BindingPrefix = 32;
+        private int ipv6BindingPrefix = 128;
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private boolean enabled = false;
+        private int maxFailures = 20;
+        private Duration window = Duration.ofMinutes(1);
+        private int maxClients = 65536;
+    }
+
+    @Getter
+    @Setter
+    public static class VirtualThreads {
+        private boolean enabled = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Breadcrumb {
+        private int maxLength = 64;
+        private boolean traceparent = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Revocation {
+        private boolean enabled = false;
+        private String file;
+        private Duration refreshInterval = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Password {
+        private String encodingId = "bcrypt";
+        private boolean calibrate = true;
+        private Duration targetLatency = Duration.ofMillis(100);
+        private int minimumBcryptStrength = 10;
+        private int maximumBcryptStrength = 16;
+        private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        private int queueSize = 64;
+        private Duration maxWait = Duration.ofSeconds(2);
+    }
+
+    @Getter
+    @Setter
+    public static class Audit {
+        private boolean enabled = false;
+        private String file = "logs/authentication-audit.log";
+        private int bufferSize = 16384;
+        private int batchSize = 512;
+        private OverflowPolicy overflow = OverflowPolicy.DROP;
+        private Duration maxBlock = Duration.ofMillis(5);
+        private DataSize maxFileSize = DataSize.ofMegabytes(100);
+        private int maxHistory = 10;
+    }
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.revocation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.revocation
+ * Created_on - 18 October-2026
+ * Created_at - 12 : 25
+ */
+
+/**
+ * Reads revocations from a text file with one entry per line, either {@code <jti> <expires-at>} or
+ * {@code <subject> <issued-at> <expires-at>}. Times are epoch seconds or ISO-8601 instants, {@code #} starts a comment.
+ * A missing file means nothing is revoked.
+ */
+public class FileRevocationSource implements RevocationSource, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileRevocationSource.class);
+
+    private final Path path;
+    private volatile WatchService watchService;
+
+    public FileRevocationSource(Path path) {
+        this.path = path.toAbsolutePath();
+    }
+
+    @Override
+    public List<RevokedToken> load() throws IOException {
+        List<RevokedToken> revokedTokens = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                RevokedToken revokedToken = parse(line, lineNumber);
+                if (revokedToken != null) {
+                    revokedTokens.add(revokedToken);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return List.of();
+        }
+        return revokedTokens;
+    }
+
+    // The directory is watched rather than the file, editors and deployment tools usually replace it with a rename
+    @Override
+    public void onChange(Runnable listener) {
+        Path directory = path.getParent();
+        try {
+            WatchService service = directory.getFileSystem().newWatchService();
+            directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            watchService = service;
+        } catch (IOException e) {
+            logger.warn("Unable to watch {}, revocations are picked up on the next refresh only : {}", directory, e.getMessage());
+            return;
+        }
+        Thread thread = new Thread(() -> watch(listener), "bloggios-revocation-watch");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watch(Runnable listener) {
+        Path fileName = path.getFileName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context());
+                }
+                if (changed) {
+                    listener.run();
+                }
+                if (!key.reset()) {
+                    logger.warn("Stopped watching {}, revocations are picked up on the next refresh only", path.getParent());
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // closed by destroy()
+        }
+    }
+
+    private RevokedToken parse(String line, int lineNumber) {
+        int comment = line.indexOf('#');
+        String content = (comment < 0 ? line : line.substring(0, comment)).trim();
+        if (content.isEmpty()) {
+            return null;
+        }
+        String[] fields = content.split("\\s+");
+        try {
+            if (fields.length == 2) {
+                return RevokedToken.ofTokenId(fields[0], instant(fields[1]));
+            }
+            if (fields.length == 3) {
+                return RevokedToken.ofSubject(fields[0], instant(fields[1]), instant(fields[2]));
+            }
+        } catch (DateTimeParseException | NumberFormatException e) {
+            // reported below
+        }
+        logger.warn("Ignoring line {} of {}, expected '<jti> <expires-at>' or '<subject> <issued-at> <expires-at>'", lineNumber, path);
+        return null;
+    }
+
+    private static Instant instant(String value) {
+        return value.chars().allMatch(Character::isDigit)
+                ? Instant.ofEpochSecond(Long.parseLong(value))
+                : Instant.parse(value);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        WatchService service = watchService;
+        if (service != null) {
+            service.close();
+        }
+    }
+}
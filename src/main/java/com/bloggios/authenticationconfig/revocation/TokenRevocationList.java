@@ -0,0 +1,247 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.revocation;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.revocation
+ * Created_on - 18 October-2026
+ * Created_at - 12 : 40
+ */
+
+/**
+ * Blocklist of revoked tokens. Request threads read an immutable snapshot: a Bloom filter answers almost every lookup
+ * for a token that is not revoked, and only its positives are confirmed against the exact key set. Entries are dropped
+ * once the token they revoke has expired.
+ */
+public class TokenRevocationList implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+    private static final int BITS_PER_ENTRY = 10;
+    private static final int PROBES = 7;
+    private static final long BY_TOKEN_ID = Long.MIN_VALUE;
+
+    private final boolean enabled;
+    private final RevocationSource revocationSource;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Key, Long> loaded = new HashMap<>();
+    private final Map<Key, Long> revoked = new HashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public TokenRevocationList(
+            RevocationSource revocationSource,
+            SecurityConfigProperties securityConfigProperties
+    ) {
+        SecurityConfigProperties.Revocation properties = securityConfigProperties.getRevocation();
+        this.enabled = properties.isEnabled();
+        this.revocationSource = revocationSource;
+        if (!enabled) {
+            this.scheduler = null;
+            return;
+        }
+        refresh();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bloggios-revocation-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = properties.getRefreshInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, period, period, TimeUnit.MILLISECONDS);
+        revocationSource.onChange(() -> {
+            if (!scheduler.isShutdown()) {
+                scheduler.execute(this::refreshQuietly);
+            }
+        });
+    }
+
+    public boolean isRevoked(Jwt jwt) {
+        Snapshot current = snapshot;
+        if (current.isEmpty()) {
+            return false;
+        }
+        // Raw claim reads, the typed accessors go through the conversion service on every call
+        Map<String, Object> claims = jwt.getClaims();
+        if (claims.get(JwtClaimNames.JTI) instanceof String tokenId && current.contains(tokenId, BY_TOKEN_ID)) {
+            return true;
+        }
+        return claims.get(JwtClaimNames.SUB) instanceof String subject
+                && claims.get(JwtClaimNames.IAT) instanceof Instant issuedAt
+                && current.contains(subject, issuedAt.getEpochSecond());
+    }
+
+    /**
+     * Revokes a token in this instance only, for example from a logout endpoint. The entry survives source reloads
+     * until the token expires.
+     */
+    public synchronized void revoke(RevokedToken revokedToken) {
+        if (!enabled) {
+            throw new IllegalStateException("Token revocation is disabled, set security-config.revocation.enabled to true");
+        }
+        revoked.merge(key(revokedToken), revokedToken.expiresAt().toEpochMilli(), Math::max);
+        publish();
+    }
+
+    public int size() {
+        return snapshot.keys.size();
+    }
+
+    long filterBits() {
+        return snapshot.bits.length * 64L;
+    }
+
+    boolean filterMatches(String tokenId) {
+        return snapshot.mightContain(tokenId, BY_TOKEN_ID);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            logger.warn("Unable to reload revoked tokens, keeping {} known entries : {}", size(), e.getMessage());
+        }
+    }
+
+    private synchronized void refresh() {
+        Map<Key, Long> entries = new HashMap<>();
+        try {
+            for (RevokedToken revokedToken : revocationSource.load()) {
+                entries.merge(key(revokedToken), revokedToken.expiresAt().toEpochMilli(), Math::max);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to load revoked tokens : " + e.getMessage(), e);
+        }
+        loaded.clear();
+        loaded.putAll(entries);
+        publish();
+    }
+
+    // Every refresh also ages out entries, so memory is bounded by the tokens that are revoked and still valid
+    private void publish() {
+        long now = System.currentTimeMillis();
+        loaded.values().removeIf(expiresAt -> expiresAt <= now);
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        Map<Key, Long> entries = new HashMap<>(loaded);
+        entries.putAll(revoked);
+        snapshot = Snapshot.of(Set.copyOf(entries.keySet()));
+    }
+
+    private static Key key(RevokedToken revokedToken) {
+        return revokedToken.tokenId() != null
+                ? new Key(revokedToken.tokenId(), BY_TOKEN_ID)
+                : new Key(revokedToken.subject(), revokedToken.issuedAt().getEpochSecond());
+    }
+
+    private static long hash(String value, long issuedAt) {
+        long hash = value.hashCode() * 0x9E3779B97F4A7C15L + issuedAt;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private record Key(String value, long issuedAt) {
+    }
+
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(Set.of(), new long[1], 0L);
+
+        private final Set<Key> keys;
+        private final long[] bits;
+        private final long mask;
+
+        private Snapshot(Set<Key> keys, long[] bits, long mask) {
+            this.keys = keys;
+            this.bits = bits;
+            this.mask = mask;
+        }
+
+        // Sized at ten bits per entry with seven probes, which keeps false positives below one percent
+        static Snapshot of(Set<Key> keys) {
+            if (keys.isEmpty()) {
+                return EMPTY;
+            }
+            long bitCount = Long.highestOneBit(Math.max(64L, (long) keys.size() * BITS_PER_ENTRY) - 1) << 1;
+            Snapshot snapshot = new Snapshot(keys, new long[(int) (bitCount >>> 6)], bitCount - 1);
+            for (Key key : keys) {
+                long hash = hash(key.value(), key.issuedAt());
+                for (int i = 0; i < PROBES; i++) {
+                    long bit = snapshot.bit(hash, i);
+                    snapshot.bits[(int) (bit >>> 6)] |= 1L << bit;
+                }
+            }
+            return snapshot;
+        }
+
+        boolean isEmpty() {
+            return keys.isEmpty();
+        }
+
+        boolean contains(String value, long issuedAt) {
+            return mightContain(value, issuedAt) && keys.contains(new Key(value, issuedAt));
+        }
+
+        boolean mightContain(String value, long issuedAt) {
+            long hash = hash(value, issuedAt);
+            for (int i = 0; i < PROBES; i++) {
+                long bit = bit(hash, i);
+                if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Double hashing, the two halves of the 64 bit hash stand in for independent functions
+        private long bit(long hash, int probe) {
+            return ((int) hash + (long) probe * ((int) (hash >>> 32) | 1)) & mask;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.util
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 10
+ */
+
+/**
+ * Size bound shared by the token caches. Entries are only added while the map is under its bound; once it is full, one
+ * caller at a time drops the expired entries first, then arbitrary ones until the map is back under 90% of its bound.
+ * Concurrent callers skip the sweep instead of waiting for it.
+ */
+public final class BoundedCacheSweeper<K, V> {
+
+    private final Map<K, V> cache;
+    private final int maxSize;
+    private final ToLongFunction<V> expiresAt;
+    private final LongAdder evictions;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public BoundedCacheSweeper(
+            Map<K, V> cache,
+            int maxSize,
+            ToLongFunction<V> expiresAt,
+            LongAdder evictions
+    ) {
+        this.cache = cache;
+        this.maxSize = maxSize;
+        this.expiresAt = expiresAt;
+        this.evictions = evictions;
+    }
+
+    public boolean put(K key, V value, long now) {
+        if (cache.size() >= maxSize) {
+            sweep(now);
+        }
+        if (cache.size() < maxSize) {
+            cache.put(key, value);
+            return true;
+        }
+        return false;
+    }
+
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            cache.values().removeIf(value -> {
+                boolean expired = expiresAt.applyAsLong(value) <= now;
+                if (expired) {
+                    evictions.increment();
+                }
+                return expired;
+            });
+            int target = maxSize - Math.max(1, maxSize / 10);
+            Iterator<V> iterator = cache.values().iterator();
+            while (cache.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
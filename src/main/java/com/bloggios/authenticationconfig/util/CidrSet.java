@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.util
+ * Created_on - 18 October-2026
+ * Created_at - 19 : 55
+ */
+
+/**
+ * Immutable set of IPv4 and IPv6 CIDR blocks. Networks are grouped by prefix length into sorted arrays, so a lookup
+ * is one mask and one binary search per distinct prefix length. IPv4-mapped IPv6 addresses match IPv4 blocks.
+ */
+public final class CidrSet {
+
+    public static final CidrSet EMPTY = new CidrSet(new int[0], new long[0][], new int[0], new long[0][]);
+
+    private final int[] ipv4Lengths;
+    private final long[][] ipv4Networks;
+    private final int[] ipv6Lengths;
+    // Each array holds (high, low) pairs, sorted as unsigned 128-bit values
+    private final long[][] ipv6Networks;
+
+    private CidrSet(int[] ipv4Lengths, long[][] ipv4Networks, int[] ipv6Lengths, long[][] ipv6Networks) {
+        this.ipv4Lengths = ipv4Lengths;
+        this.ipv4Networks = ipv4Networks;
+        this.ipv6Lengths = ipv6Lengths;
+        this.ipv6Networks = ipv6Networks;
+    }
+
+    /**
+     * @param cidrs blocks such as {@code 10.0.0.0/8} or {@code 2001:db8::/32}; a bare address is a single host
+     * @throws IllegalArgumentException if an entry is not a valid block
+     */
+    public static CidrSet of(Collection<String> cidrs) {
+        if (cidrs == null || cidrs.isEmpty()) {
+            return EMPTY;
+        }
+        Map<Integer, List<Long>> ipv4 = new TreeMap<>((a, b) -> b - a);
+        Map<Integer, List<long[]>> ipv6 = new TreeMap<>((a, b) -> b - a);
+        for (String cidr : cidrs) {
+            String value = cidr == null ? "" : cidr.trim();
+            int slash = value.indexOf('/');
+            int end = slash < 0 ? value.length() : slash;
+            long address = IpAddresses.parseIpv4(value, 0, end);
+            if (address >= 0) {
+                int length = prefixLength(value, slash, 32);
+                ipv4.computeIfAbsent(length, key -> new ArrayList<>()).add(address & IpAddresses.ipv4Mask(length));
+            } else if (IpAddresses.isIpv6(value, 0, end)) {
+                int length = prefixLength(value, slash, 128);
+                long high = IpAddresses.ipv6High(value, 0, end) & IpAddresses.ipv6HighMask(length);
+                long low = IpAddresses.ipv6Low(value, 0, end) & IpAddresses.ipv6LowMask(length);
+                ipv6.computeIfAbsent(length, key -> new ArrayList<>()).add(new long[]{high, low});
+            } else {
+                throw new IllegalArgumentException("Invalid CIDR block: " + cidr);
+            }
+        }
+        int[] ipv4Lengths = new int[ipv4.size()];
+        long[][] ipv4Networks = new long[ipv4.size()][];
+        int index = 0;
+        for (Map.Entry<Integer, List<Long>> entry : ipv4.entrySet()) {
+            ipv4Lengths[index] = entry.getKey();
+            ipv4Networks[index++] = entry.getValue().stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        }
+        int[] ipv6Lengths = new int[ipv6.size()];
+        long[][] ipv6Networks = new long[ipv6.size()][];
+        index = 0;
+        for (Map.Entry<Integer, List<long[]>> entry : ipv6.entrySet()) {
+            List<long[]> networks = entry.getValue();
+            networks.sort(CidrSet::compare);
+            long[] pairs = new long[networks.size() * 2];
+            for (int i = 0; i < networks.size(); i++) {
+                pairs[2 * i] = networks.get(i)[0];
+                pairs[2 * i + 1] = networks.get(i)[1];
+            }
+            ipv6Lengths[index] = entry.getKey();
+            ipv6Networks[index++] = pairs;
+        }
+        return new CidrSet(ipv4Lengths, ipv4Networks, ipv6Lengths, ipv6Networks);
+    }
+
+    public boolean isEmpty() {
+        return ipv4Lengths.length == 0 && ipv6Lengths.length == 0;
+    }
+
+    public boolean contains(CharSequence address) {
+        return contains(address, 0, address.length());
+    }
+
+    /**
+     * @return true if the range holds an address inside one of the blocks; host names and malformed values never match
+     */
+    public boolean contains(CharSequence s, int from, int to) {
+        if (!IpAddresses.hasColon(s, from, to)) {
+            long address = IpAddresses.parseIpv4(s, from, to);
+            return address >= 0 && containsIpv4(address);
+        }
+        if (!IpAddresses.isIpv6(s, from, to)) {
+            return false;
+        }
+        long high = IpAddresses.ipv6High(s, from, to);
+        long low = IpAddresses.ipv6Low(s, from, to);
+        if (high == 0 && (low >>> 32) == 0xFFFFL) {
+            return containsIpv4(low & 0xFFFFFFFFL);
+        }
+        return containsIpv6(high, low);
+    }
+
+    public boolean containsIpv4(long address) {
+        for (int i = 0; i < ipv4Lengths.length; i++) {
+            if (Arrays.binarySearch(ipv4Networks[i], address & IpAddresses.ipv4Mask(ipv4Lengths[i])) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean containsIpv6(long high, long low) {
+        for (int i = 0; i < ipv6Lengths.length; i++) {
+            int length = ipv6Lengths[i];
+            if (search(ipv6Networks[i], high & IpAddresses.ipv6HighMask(length), low & IpAddresses.ipv6LowMask(length))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean search(long[] pairs, long high, long low) {
+        int lo = 0;
+        int hi = pairs.length / 2 - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = Long.compareUnsigned(pairs[2 * mid], high);
+            if (cmp == 0) {
+                cmp = Long.compareUnsigned(pairs[2 * mid + 1], low);
+            }
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int compare(long[] a, long[] b) {
+        int cmp = Long.compareUnsigned(a[0], b[0]);
+        return cmp != 0 ? cmp : Long.compareUnsigned(a[1], b[1]);
+    }
+
+    private static int prefixLength(String value, int slash, int max) {
+        if (slash < 0) {
+            return max;
+        }
+        try {
+            int length = Integer.parseInt(value.substring(slash + 1));
+            if (length >= 0 && length <= max) {
+                return length;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid CIDR prefix length: " + value);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.util;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.util
+ * Created_on - 18 October-2026
+ * Created_at - 19 : 40
+ */
+
+/**
+ * Parses textual IPv4 and IPv6 addresses straight out of a character range, so header values can be inspected
+ * without substrings. IPv6 zone ids ({@code %eth0}) are accepted and ignored.
+ */
+@UtilityClass
+public class IpAddresses {
+
+    private static final int VALIDATE = 0;
+    private static final int HIGH = 1;
+    private static final int LOW = 2;
+
+    /**
+     * @return the address as an unsigned 32-bit value, or -1 if the range is not a dotted-quad IPv4 address
+     */
+    public static long parseIpv4(CharSequence s, int from, int to) {
+        long address = 0;
+        int octets = 0;
+        int i = from;
+        while (octets < 4) {
+            int start = i;
+            int value = 0;
+            while (i < to && i - start < 3) {
+                char c = s.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = value * 10 + (c - '0');
+                i++;
+            }
+            int digits = i - start;
+            if (digits == 0 || value > 255 || (digits > 1 && s.charAt(start) == '0')) {
+                return -1;
+            }
+            address = (address << 8) | value;
+            octets++;
+            if (octets < 4) {
+                if (i >= to || s.charAt(i) != '.') {
+                    return -1;
+                }
+                i++;
+            }
+        }
+        return i == to ? address : -1;
+    }
+
+    public static boolean isIpv6(CharSequence s, int from, int to) {
+        return ipv6(s, from, to, VALIDATE) != 0;
+    }
+
+    /**
+     * Upper 64 bits of an address already checked with {@link #isIpv6}.
+     */
+    public static long ipv6High(CharSequence s, int from, int to) {
+        return ipv6(s, from, to, HIGH);
+    }
+
+    /**
+     * Lower 64 bits of an address already checked with {@link #isIpv6}.
+     */
+    public static long ipv6Low(CharSequence s, int from, int to) {
+        return ipv6(s, from, to, LOW);
+    }
+
+    /**
+     * @return true if the range contains a colon, which no IPv4 address or host name does
+     */
+    public static boolean hasColon(CharSequence s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) == ':') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static long ipv4Mask(int length) {
+        return length == 0 ? 0 : (0xFFFFFFFFL << (32 - length)) & 0xFFFFFFFFL;
+    }
+
+    public static long ipv6HighMask(int length) {
+        return length >= 64 ? -1L : length == 0 ? 0 : -1L << (64 - length);
+    }
+
+    public static long ipv6LowMask(int length) {
+        return length <= 64 ? 0 : length == 128 ? -1L : -1L << (128 - length);
+    }
+
+    // Groups before "::" are placed from the left, groups after it are shifted in from the right, so the two
+    // halves can be OR-ed together without knowing up front how many zero groups the "::" stands for
+    private static long ipv6(CharSequence s, int from, int to, int part) {
+        int end = to;
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) == '%') {
+                end = i;
+                break;
+            }
+        }
+        if (end - from < 2) {
+            return 0;
+        }
+        long headHigh = 0;
+        long headLow = 0;
+        long tailHigh = 0;
+        long tailLow = 0;
+        int groups = 0;
+        boolean compressed = false;
+        int i = from;
+        if (s.charAt(i) == ':') {
+            if (s.charAt(i + 1) != ':') {
+                return 0;
+            }
+            compressed = true;
+            i += 2;
+        }
+        while (i < end) {
+            int start = i;
+            int value = 0;
+            while (i < end && i - start < 4) {
+                int digit = hexDigit(s.charAt(i));
+                if (digit < 0) {
+                    break;
+                }
+                value = (value << 4) | digit;
+                i++;
+            }
+            if (i < end && s.charAt(i) == '.') {
+                // Embedded IPv4 tail such as ::ffff:192.0.2.1, counted as two groups
+                long ipv4 = parseIpv4(s, start, end);
+                if (ipv4 < 0 || groups > 6) {
+                    return 0;
+                }
+                if (!compressed) {
+                    headLow |= ipv4;
+                } else {
+                    tailHigh = (tailHigh << 32) | (tailLow >>> 32);
+                    tailLow = (tailLow << 32) | ipv4;
+                }
+                groups += 2;
+                break;
+            }
+            if (i == start || groups == 8) {
+                return 0;
+            }
+            if (!compressed) {
+                if (groups < 4) {
+                    headHigh |= (long) value << ((3 - groups) << 4);
+                } else {
+                    headLow |= (long) value << ((7 - groups) << 4);
+                }
+            } else {
+                tailHigh = (tailHigh << 16) | (tailLow >>> 48);
+                tailLow = (tailLow << 16) | value;
+            }
+            groups++;
+            if (i == end) {
+                break;
+            }
+            if (s.charAt(i) != ':') {
+                return 0;
+            }
+            i++;
+            if (i < end && s.charAt(i) == ':') {
+                if (compressed) {
+                    return 0;
+                }
+                compressed = true;
+                i++;
+            } else if (i == end) {
+                return 0;
+            }
+        }
+        if (compressed ? groups > 7 : groups != 8) {
+            return 0;
+        }
+        return switch (part) {
+            case HIGH -> headHigh | tailHigh;
+            case LOW -> headLow | tailLow;
+            default -> 1;
+        };
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
@@ -40,11 +40,30 @@ import java.util.Objects;
 @UtilityClass
 public class IpUtils {
 
+    public static final String X_FORWARDED_FOR = "X-Forwarded-For";
+    public static final String FORWARDED = "Forwarded";
+
     public static String getRemoteAddress(HttpServletRequest httpServletRequest) {
-        String clientIp = httpServletRequest.getHeader("X-Forwarded-For");
-        if (clientIp != null && clientIp.contains(",")) {
-            clientIp = clientIp.split(",")[0].trim();
+        return getRemoteAddress(httpServletRequest.getHeader(X_FORWARDED_FOR), httpServletRequest.getRemoteAddr());
+    }
+
+    public static String getRemoteAddress(String forwardedFor, String remoteAddress) {
+        if (Objects.isNull(forwardedFor)) {
+            return remoteAddress;
+        }
+        int comma = forwardedFor.indexOf(',');
+        if (comma < 0) {
+            return forwardedFor;
+        }
+        // First hop, trimmed, without splitting the whole header
+        int from = 0;
+        int to = comma;
+        while (from < to && forwardedFor.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && forwardedFor.charAt(to - 1) <= ' ') {
+            to--;
         }
-        return Objects.isNull(clientIp) ? httpServletRequest.getRemoteAddr() : clientIp;
+        return forwardedFor.substring(from, to);
     }
 }
@@ -23,14 +23,15 @@
 
 package com.bloggios.authenticationconfig.util;
 
+import com.bloggios.authenticationconfig.authentication.AuthorityRegistry;
 import com.bloggios.authenticationconfig.exception.AuthenticationConfigException;
+import com.bloggios.authenticationconfig.payload.AuthenticatedUser;
+import com.bloggios.authenticationconfig.payload.JwtAuthenticatedUser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.stereotype.Component;
 
 import java.util.Collection;
 import java.util.List;
@@ -44,36 +45,72 @@ import java.util.List;
  * Created_at - 19 : 10
  */
 
-@Component
 public class JwtDecoderUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtDecoderUtil.class);
 
     private final JwtDecoder jwtDecoder;
+    private final AuthorityRegistry authorityRegistry;
 
     public JwtDecoderUtil(
-            JwtDecoder jwtDecoder
+            JwtDecoder jwtDecoder,
+            AuthorityRegistry authorityRegistry
     ) {
         this.jwtDecoder = jwtDecoder;
+        this.authorityRegistry = authorityRegistry;
+    }
+
+    public Jwt decode(String token) {
+        try {
+            return jwtDecoder.decode(token);
+        } catch (Exception e) {
+            logger.error("Exception Occurred while decoding the token with default message as : {}", e.getMessage());
+            throw new AuthenticationConfigException("Unable to decode the Token");
+        }
+    }
+
+    public AuthenticatedUser extractAuthenticatedUser(Jwt jwt) {
+        return new JwtAuthenticatedUser(jwt, this);
     }
 
     public Collection<? extends GrantedAuthority> extractAuthorities(String jwtToken) {
+        return extractAuthorities(decode(jwtToken));
+    }
+
+    public Collection<? extends GrantedAuthority> extractAuthorities(Jwt jwt) {
         try {
-            Jwt jwt = jwtDecoder.decode(jwtToken);
-            List<String> authorities = jwt.getClaimAsStringList("authority");
-            return authorities
-                    .stream()
-                    .map(SimpleGrantedAuthority::new)
-                    .toList();
+            return authorityRegistry.authorities(authorityNames(jwt));
         } catch (Exception exception) {
             logger.error("Exception Occurred while extracting Authorities with default message as : {}", exception.getMessage());
             throw new AuthenticationConfigException("Unable to extract Authorities from the Token");
         }
     }
 
+    // Uses the claim list as decoded when it already holds strings, skipping the conversion service
+    @SuppressWarnings("unchecked")
+    private List<String> authorityNames(Jwt jwt) {
+        Object claim = jwt.getClaims().get("authority");
+        if (claim instanceof List<?> list) {
+            boolean strings = true;
+            for (Object element : list) {
+                if (!(element instanceof String)) {
+                    strings = false;
+                    break;
+                }
+            }
+            if (strings) {
+                return (List<String>) list;
+            }
+        }
+        return jwt.getClaimAsStringList("authority");
+    }
+
     public String extractUserId(String token) {
+        return extractUserId(decode(token));
+    }
+
+    public String extractUserId(Jwt jwt) {
         try {
-            Jwt jwt = jwtDecoder.decode(token);
             return jwt.getSubject();
         } catch (Exception e) {
             logger.error("Exception Occurred while extracting User Id from token with default message as : {}", e.getMessage());
@@ -82,8 +119,11 @@ public class JwtDecoderUtil {
     }
 
     public String extractEmail(String token) {
+        return extractEmail(decode(token));
+    }
+
+    public String extractEmail(Jwt jwt) {
         try {
-            Jwt jwt = jwtDecoder.decode(token);
             return jwt.getClaimAsString("email");
         } catch (Exception e) {
             logger.error("Exception Occurred while extracting Email from token with default message as : {}", e.getMessage());
@@ -92,8 +132,11 @@ public class JwtDecoderUtil {
     }
 
     public String extractClientIp(String token) {
+        return extractClientIp(decode(token));
+    }
+
+    public String extractClientIp(Jwt jwt) {
         try {
-            Jwt jwt = jwtDecoder.decode(token);
             return jwt.getClaimAsString("remoteAddress");
         } catch (Exception e) {
             logger.error("Exception Occurred while extracting Client IP from token with default message as : {}", e.getMessage());
@@ -102,8 +145,11 @@ public class JwtDecoderUtil {
     }
 
     public String extractUsername(String token) {
+        return extractUsername(decode(token));
+    }
+
+    public String extractUsername(Jwt jwt) {
         try {
-            Jwt jwt = jwtDecoder.decode(token);
             return jwt.getClaimAsString("username");
         } catch (Exception e) {
             logger.error("Exception Occurred while extracting Username from token with default message as : {}", e.getMessage());
@@ -112,8 +158,11 @@ public class JwtDecoderUtil {
     }
 
     public String extractBadge(String token) {
+        return extractBadge(decode(token));
+    }
+
+    public String extractBadge(Jwt jwt) {
         try {
-            Jwt jwt = jwtDecoder.decode(token);
             return jwt.getClaimAsString("is-badge");
         } catch (Exception e) {
             logger.error("Exception Occurred while extracting User Badge from token with default message as : {}", e.getMessage());
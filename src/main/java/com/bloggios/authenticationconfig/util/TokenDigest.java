@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.util
+ * Created_on - 18 October-2026
+ * Created_at - 11 : 05
+ */
+
+public final class TokenDigest {
+
+    private static final InstancePool<MessageDigest> SHA_256 = new InstancePool<>(TokenDigest::newMessageDigest);
+
+    private final long first;
+    private final long second;
+    private final long third;
+    private final long fourth;
+
+    private TokenDigest(byte[] digest) {
+        this.first = toLong(digest, 0);
+        this.second = toLong(digest, 8);
+        this.third = toLong(digest, 16);
+        this.fourth = toLong(digest, 24);
+    }
+
+    public static TokenDigest of(String token) {
+        MessageDigest messageDigest = SHA_256.borrow();
+        byte[] digest = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+        SHA_256.release(messageDigest);
+        return new TokenDigest(digest);
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available in this JVM", e);
+        }
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TokenDigest that)) return false;
+        return first == that.first && second == that.second && third == that.third && fourth == that.fourth;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (first ^ (first >>> 32));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+/**
+ * Resolves every entry of the native image reflection metadata, so a renamed class, field or method fails the build
+ * instead of a native image at runtime.
+ */
+class ReflectConfigTest {
+
+    private static final String REFLECT_CONFIG = "META-INF/native-image/com.bloggios.authentication-config/authentication-configuration-jar/reflect-config.json";
+    private static final Map<String, Class<?>> PRIMITIVES = Map.of(
+            "boolean", boolean.class,
+            "byte", byte.class,
+            "char", char.class,
+            "short", short.class,
+            "int", int.class,
+            "long", long.class,
+            "float", float.class,
+            "double", double.class
+    );
+
+    @Test
+    void resolvesEveryClassFieldAndMethod() throws Exception {
+        for (JsonNode entry : reflectConfig()) {
+            Class<?> type = resolve(entry.path("name").asText());
+            for (JsonNode field : entry.path("fields")) {
+                type.getDeclaredField(field.path("name").asText());
+            }
+            for (JsonNode method : entry.path("methods")) {
+                List<Class<?>> parameterTypes = new ArrayList<>();
+                for (JsonNode parameterType : method.path("parameterTypes")) {
+                    parameterTypes.add(resolve(parameterType.asText()));
+                }
+                resolveMethod(type, method.path("name").asText(), parameterTypes.toArray(Class<?>[]::new));
+            }
+        }
+    }
+
+    // Configuration properties are bound by reflection, a nested group missing here is silently left unbound
+    @Test
+    void registersEveryConfigurationPropertiesGroup() throws IOException {
+        Set<String> names = new HashSet<>();
+        for (JsonNode entry : reflectConfig()) {
+            names.add(entry.path("name").asText());
+        }
+
+        assertThat(names).contains(SecurityConfigProperties.class.getName());
+        assertThat(names).containsAll(Arrays.stream(SecurityConfigProperties.class.getDeclaredClasses()).map(Class::getName).toList());
+    }
+
+    private static void resolveMethod(Class<?> type, String name, Class<?>[] parameterTypes) {
+        try {
+            if ("<init>".equals(name)) {
+                type.getDeclaredConstructor(parameterTypes);
+            } else {
+                type.getDeclaredMethod(name, parameterTypes);
+            }
+        } catch (NoSuchMethodException e) {
+            // Virtual thread methods are looked up by reflection and only exist from Java 21 on
+            if (!type.getName().startsWith("java.") || Runtime.version().feature() >= 21) {
+                fail("reflect-config.json names a missing method " + type.getName() + "#" + name, e);
+            }
+        }
+    }
+
+    private static Class<?> resolve(String name) throws ClassNotFoundException {
+        Class<?> primitive = PRIMITIVES.get(name);
+        return primitive != null ? primitive : Class.forName(name, false, ReflectConfigTest.class.getClassLoader());
+    }
+
+    private static JsonNode reflectConfig() throws IOException {
+        try (InputStream inputStream = ReflectConfigTest.class.getClassLoader().getResourceAsStream(REFLECT_CONFIG)) {
+            assertThat(inputStream).as(REFLECT_CONFIG).isNotNull();
+            JsonNode reflectConfig = new ObjectMapper().readTree(inputStream);
+            assertThat(reflectConfig.isArray() && !reflectConfig.isEmpty()).isTrue();
+            return reflectConfig;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig;
+
+import com.bloggios.authenticationconfig.authentication.ErrorResponses;
+import com.bloggios.authenticationconfig.configuration.ApplicationBeans;
+import com.bloggios.authenticationconfig.decoder.JwkSetKeyProvider;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 35
+ */
+
+/**
+ * Keys, tokens and properties shared by the unit tests, generated once per test run.
+ */
+public final class TestTokens {
+
+    public static final String CLIENT_IP = "203.0.113.10";
+    public static final String USER_ID = "0f5a3c1e-6a53-4f1b-9d7e-3f0b2a7c9e11";
+    public static final KeyPair KEY_PAIR = generateKeyPair();
+    public static final KeyPair FOREIGN_KEY_PAIR = generateKeyPair();
+
+    private TestTokens() {
+    }
+
+    public static JWTClaimsSet.Builder claims(Duration ttl) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        return new JWTClaimsSet.Builder()
+                .subject(USER_ID)
+                .claim("email", "rohit@bloggios.com")
+                .claim("username", "rohit")
+                .claim("is-badge", "true")
+                .claim("authority", List.of("ROLE_USER", "ROLE_WRITER"))
+                .claim("remoteAddress", CLIENT_IP)
+                .issuer("bloggios")
+                .issueTime(Date.from(expiresAt.minus(Duration.ofHours(1))))
+                .expirationTime(Date.from(expiresAt));
+    }
+
+    public static String token(Duration ttl) {
+        return sign(claims(ttl).build(), KEY_PAIR);
+    }
+
+    public static String sign(JWTClaimsSet claims, KeyPair keyPair) {
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).type(JOSEObjectType.JWT).build(), claims);
+        try {
+            signedJWT.sign(new RSASSASigner(keyPair.getPrivate()));
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+        return signedJWT.serialize();
+    }
+
+    public static SecurityConfigProperties properties() {
+        SecurityConfigProperties properties = new SecurityConfigProperties();
+        properties.getKeyProvider().setPublicKey("-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder().encodeToString(KEY_PAIR.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----\n");
+        properties.getKeyProvider().setWarmUpIterations(0);
+        return properties;
+    }
+
+    public static JwtDecoder jwtDecoder(SecurityConfigProperties properties) {
+        return new ApplicationBeans(properties).jwtDecoder(new DefaultListableBeanFactory().getBeanProvider(JwkSetKeyProvider.class));
+    }
+
+    public static ErrorResponses errorResponses() {
+        try {
+            return new ErrorResponses();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
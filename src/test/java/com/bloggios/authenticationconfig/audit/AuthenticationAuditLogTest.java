@@ -0,0 +1,224 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.audit;
+
+import com.bloggios.authenticationconfig.authentication.AuthenticationMode;
+import com.bloggios.authenticationconfig.authentication.AuthenticationOutcome;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.audit
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class AuthenticationAuditLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void accountsForEveryEventFromConcurrentThreads() throws Exception {
+        int threads = 8;
+        int eventsPerThread = 5000;
+        SecurityConfigProperties properties = properties(SecurityConfigProperties.OverflowPolicy.DROP, Duration.ZERO);
+        properties.getAudit().setBufferSize(1024);
+        AuthenticationAuditLog auditLog = new AuthenticationAuditLog(properties);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            String userId = "user-" + thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int event = 0; event < eventsPerThread; event++) {
+                    auditLog.record(AuthenticationMode.BEARER, AuthenticationOutcome.SUCCESS, userId, "203.0.113.10", Integer.toString(event));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        auditLog.destroy();
+
+        assertThat(auditLog.getPublishedCount() + auditLog.getDroppedCount()).isEqualTo((long) threads * eventsPerThread);
+        assertThat(auditLog.getWrittenCount() + auditLog.getFailedCount()).isEqualTo(auditLog.getPublishedCount());
+        assertThat(auditLog.getFailedCount()).isZero();
+        assertThat(auditLog.getBacklog()).isZero();
+        assertThat(lines()).hasSize((int) auditLog.getWrittenCount());
+    }
+
+    @Test
+    void dropsRightAwayWhenTheRingIsFullWithTheDropPolicy() throws Exception {
+        StalledAuditFile file = new StalledAuditFile(directory.resolve("audit.log"));
+        AuthenticationAuditLog auditLog = new AuthenticationAuditLog(properties(SecurityConfigProperties.OverflowPolicy.DROP, Duration.ofSeconds(5)), file);
+        fillWhileStalled(auditLog, file);
+
+        long start = System.nanoTime();
+        assertThat(record(auditLog, "overflow")).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+
+        file.release.countDown();
+        auditLog.destroy();
+        assertThat(auditLog.getDroppedCount()).isEqualTo(1);
+        assertThat(auditLog.getWrittenCount()).isEqualTo(3);
+    }
+
+    @Test
+    void waitsForTheWriterWithTheBlockPolicy() throws Exception {
+        StalledAuditFile file = new StalledAuditFile(directory.resolve("audit.log"));
+        AuthenticationAuditLog auditLog = new AuthenticationAuditLog(properties(SecurityConfigProperties.OverflowPolicy.BLOCK, Duration.ofSeconds(5)), file);
+        fillWhileStalled(auditLog, file);
+
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> record(auditLog, "blocked"));
+        Thread.sleep(100);
+        assertThat(blocked).isNotDone();
+        file.release.countDown();
+
+        assertThat(blocked.get(5, TimeUnit.SECONDS)).isTrue();
+        auditLog.destroy();
+        assertThat(auditLog.getDroppedCount()).isZero();
+        assertThat(auditLog.getWrittenCount()).isEqualTo(4);
+    }
+
+    @Test
+    void givesUpAfterMaxBlockWithTheBlockPolicy() throws Exception {
+        StalledAuditFile file = new StalledAuditFile(directory.resolve("audit.log"));
+        AuthenticationAuditLog auditLog = new AuthenticationAuditLog(properties(SecurityConfigProperties.OverflowPolicy.BLOCK, Duration.ofMillis(50)), file);
+        fillWhileStalled(auditLog, file);
+
+        long start = System.nanoTime();
+        assertThat(record(auditLog, "overflow")).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+
+        file.release.countDown();
+        auditLog.destroy();
+        assertThat(auditLog.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsHostileFieldsOnOneLine() throws Exception {
+        AuthenticationAuditLog auditLog = new AuthenticationAuditLog(properties(SecurityConfigProperties.OverflowPolicy.DROP, Duration.ZERO));
+        auditLog.record(AuthenticationMode.COOKIE, AuthenticationOutcome.BAD_SIGNATURE, "admin\tsuccess\nforged", "203.0.113.10", "x".repeat(300));
+        auditLog.record(AuthenticationMode.BEARER, AuthenticationOutcome.SUCCESS, "röhit 😀", null, "");
+        auditLog.destroy();
+
+        List<String> lines = lines();
+        assertThat(lines).hasSize(2);
+        String[] first = lines.get(0).split("\t", -1);
+        assertThat(first).hasSize(6);
+        assertThat(first[1]).isEqualTo("bad-signature");
+        assertThat(first[2]).isEqualTo("cookie");
+        assertThat(first[3]).isEqualTo("admin_success_forged");
+        assertThat(first[5]).hasSize(128);
+        assertThat(lines.get(1).split("\t", -1)).endsWith("röhit_😀", "-", "-");
+    }
+
+    @Test
+    void rejectsEventsOnceDestroyed() throws Exception {
+        AuthenticationAuditLog auditLog = new AuthenticationAuditLog(properties(SecurityConfigProperties.OverflowPolicy.BLOCK, Duration.ofSeconds(5)));
+        assertThat(record(auditLog, "before")).isTrue();
+        auditLog.destroy();
+
+        assertThat(record(auditLog, "after")).isFalse();
+        assertThat(auditLog.getPublishedCount()).isEqualTo(1);
+        assertThat(auditLog.getDroppedCount()).isEqualTo(1);
+        assertThat(lines()).singleElement().asString().endsWith("before");
+    }
+
+    // Publishes one event, waits for the writer to stall on it, then fills both slots of the ring behind it
+    private static void fillWhileStalled(AuthenticationAuditLog auditLog, StalledAuditFile file) throws InterruptedException {
+        assertThat(record(auditLog, "stalled")).isTrue();
+        assertThat(file.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(record(auditLog, "queued-1")).isTrue();
+        assertThat(record(auditLog, "queued-2")).isTrue();
+    }
+
+    private static boolean record(AuthenticationAuditLog auditLog, String breadcrumbId) {
+        return auditLog.record(AuthenticationMode.BEARER, AuthenticationOutcome.SUCCESS, "user", "203.0.113.10", breadcrumbId);
+    }
+
+    private SecurityConfigProperties properties(SecurityConfigProperties.OverflowPolicy overflow, Duration maxBlock) {
+        SecurityConfigProperties properties = new SecurityConfigProperties();
+        SecurityConfigProperties.Audit audit = properties.getAudit();
+        audit.setEnabled(true);
+        audit.setFile(directory.resolve("audit.log").toString());
+        audit.setBufferSize(2);
+        audit.setBatchSize(1);
+        audit.setOverflow(overflow);
+        audit.setMaxBlock(maxBlock);
+        return properties;
+    }
+
+    private List<String> lines() throws IOException {
+        return Files.readAllLines(directory.resolve("audit.log"), StandardCharsets.UTF_8);
+    }
+
+    private static final class StalledAuditFile extends RollingAuditFile {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private StalledAuditFile(Path path) throws IOException {
+            super(path, Long.MAX_VALUE, 0);
+        }
+
+        @Override
+        void write(ByteBuffer buffer) throws IOException {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            super.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.audit
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class RollingAuditFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void rollsOverBySizeAndKeepsMaxHistoryArchives() throws IOException {
+        Path path = directory.resolve("logs").resolve("audit.log");
+        try (RollingAuditFile file = new RollingAuditFile(path, 10, 2)) {
+            for (int line = 1; line <= 4; line++) {
+                file.write(line("line-0" + line));
+            }
+        }
+
+        assertThat(read(path)).isEqualTo("line-04\n");
+        assertThat(read(archive(path, 1))).isEqualTo("line-03\n");
+        assertThat(read(archive(path, 2))).isEqualTo("line-02\n");
+        assertThat(archive(path, 3)).doesNotExist();
+    }
+
+    @Test
+    void keepsWritingToOneFileBelowTheMaximumSize() throws IOException {
+        Path path = directory.resolve("audit.log");
+        try (RollingAuditFile file = new RollingAuditFile(path, 16, 2)) {
+            file.write(line("line-01"));
+            file.write(line("line-02"));
+        }
+
+        assertThat(read(path)).isEqualTo("line-01\nline-02\n");
+        assertThat(archive(path, 1)).doesNotExist();
+    }
+
+    @Test
+    void discardsTheFullFileWithoutHistory() throws IOException {
+        Path path = directory.resolve("audit.log");
+        try (RollingAuditFile file = new RollingAuditFile(path, 10, 0)) {
+            file.write(line("line-01"));
+            file.write(line("line-02"));
+        }
+
+        assertThat(read(path)).isEqualTo("line-02\n");
+        assertThat(archive(path, 1)).doesNotExist();
+    }
+
+    @Test
+    void appendsToAnExistingFile() throws IOException {
+        Path path = directory.resolve("audit.log");
+        Files.writeString(path, "line-00\n");
+        try (RollingAuditFile file = new RollingAuditFile(path, 10, 1)) {
+            file.write(line("line-01"));
+        }
+
+        assertThat(read(path)).isEqualTo("line-01\n");
+        assertThat(read(archive(path, 1))).isEqualTo("line-00\n");
+    }
+
+    @Test
+    void reopensAClosedFileOnTheNextWrite() throws IOException {
+        Path path = directory.resolve("audit.log");
+        try (RollingAuditFile file = new RollingAuditFile(path, 1024, 1)) {
+            file.write(line("line-01"));
+            file.close();
+            Files.move(path, directory.resolve("moved.log"));
+            file.write(line("line-02"));
+        }
+
+        assertThat(read(path)).isEqualTo("line-02\n");
+    }
+
+    private static ByteBuffer line(String line) {
+        return ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static Path archive(Path path, int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    private static String read(Path path) throws IOException {
+        return Files.readString(path, StandardCharsets.US_ASCII);
+    }
+}
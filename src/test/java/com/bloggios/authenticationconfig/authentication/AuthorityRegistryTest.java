@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class AuthorityRegistryTest {
+
+    private final AuthorityRegistry authorityRegistry = new AuthorityRegistry();
+
+    @Test
+    void sharesOneCollectionPerClaimValue() {
+        InternedAuthorities first = authorityRegistry.authorities(List.of("ROLE_USER", "ROLE_WRITER"));
+        InternedAuthorities second = authorityRegistry.authorities(new ArrayList<>(List.of("ROLE_USER", "ROLE_WRITER")));
+
+        assertThat(second).isSameAs(first);
+        assertThat(first).containsExactly(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_WRITER"));
+        assertThat(first.get(0)).isSameAs(authorityRegistry.authority("ROLE_USER"));
+        assertThat(authorityRegistry.authorities(List.of("ROLE_WRITER", "ROLE_USER"))).isNotSameAs(first);
+    }
+
+    @Test
+    void answersRoleChecksFromTheMask() {
+        InternedAuthorities authorities = authorityRegistry.authorities(List.of("ROLE_USER", "ROLE_WRITER"));
+        authorityRegistry.authority("ROLE_ADMIN");
+
+        assertThat(authorities.getMask()).isEqualTo(0b11L);
+        assertThat(authorities.hasAuthority("ROLE_WRITER")).isTrue();
+        assertThat(authorities.hasAuthority("ROLE_ADMIN")).isFalse();
+        assertThat(authorities.hasAuthority("ROLE_UNKNOWN")).isFalse();
+        assertThat(authorities.hasAnyAuthority("ROLE_ADMIN", "ROLE_USER")).isTrue();
+        assertThat(authorityRegistry.bit("ROLE_ADMIN")).isEqualTo(2);
+        assertThat(authorityRegistry.bit(null)).isEqualTo(-1);
+    }
+
+    @Test
+    void fallsBackToANameScanBeyondTheBitset() {
+        IntStream.range(0, AuthorityRegistry.MAX_BITS).forEach(i -> authorityRegistry.authority("ROLE_" + i));
+        InternedAuthorities authorities = authorityRegistry.authorities(List.of("ROLE_0", "ROLE_OVERFLOW"));
+
+        assertThat(authorityRegistry.bit("ROLE_OVERFLOW")).isEqualTo(-1);
+        assertThat(authorities.hasAuthority("ROLE_OVERFLOW")).isTrue();
+        assertThat(authorities.hasAuthority("ROLE_0")).isTrue();
+        assertThat(authorities.hasAuthority("ROLE_1")).isFalse();
+        assertThat(authorities.hasAuthority("ROLE_OTHER")).isFalse();
+    }
+
+    @Test
+    void stopsInterningAtTheCap() {
+        IntStream.range(0, AuthorityRegistry.MAX_AUTHORITIES).forEach(i -> authorityRegistry.authority("ROLE_" + i));
+
+        SimpleGrantedAuthority overflow = authorityRegistry.authority("ROLE_OVERFLOW");
+
+        assertThat(authorityRegistry.size()).isEqualTo(AuthorityRegistry.MAX_AUTHORITIES);
+        assertThat(overflow.getAuthority()).isEqualTo("ROLE_OVERFLOW");
+        assertThat(authorityRegistry.authority("ROLE_OVERFLOW")).isNotSameAs(overflow);
+        assertThat(authorityRegistry.authorities(List.of("ROLE_OVERFLOW")).hasAuthority("ROLE_OVERFLOW")).isTrue();
+    }
+
+    @Test
+    void stopsCachingCollectionsAtTheCap() {
+        IntStream.range(0, AuthorityRegistry.MAX_COLLECTIONS).forEach(i -> authorityRegistry.authorities(List.of("ROLE_USER", "ROLE_" + i)));
+
+        List<String> claim = List.of("ROLE_USER", "ROLE_LATE");
+
+        assertThat(authorityRegistry.authorities(claim)).isNotSameAs(authorityRegistry.authorities(claim));
+        assertThat(authorityRegistry.authorities(claim).hasAuthority("ROLE_LATE")).isTrue();
+    }
+
+    @Test
+    void rejectsANullAuthorityLikeSimpleGrantedAuthority() {
+        List<String> claim = new ArrayList<>();
+        claim.add(null);
+
+        assertThatThrownBy(() -> authorityRegistry.authorities(claim)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
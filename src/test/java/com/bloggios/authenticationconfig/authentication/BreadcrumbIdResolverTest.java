@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class BreadcrumbIdResolverTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String TRACEPARENT = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+    private static final String GENERATED = "generated";
+
+    private final BreadcrumbIdResolver resolver = resolver(true);
+
+    @Test
+    void keepsAWellFormedBreadcrumbId() {
+        assertThat(resolver.resolve("0192a7c4-7d1e-7c3a-9f4b-1a2b3c4d5e6f", TRACEPARENT)).isEqualTo("0192a7c4-7d1e-7c3a-9f4b-1a2b3c4d5e6f");
+        assertThat(resolver.resolve("gateway:req_42.a", null)).isEqualTo("gateway:req_42.a");
+        assertThat(resolver.resolve("x".repeat(64), null)).isEqualTo("x".repeat(64));
+    }
+
+    @Test
+    void rejectsBreadcrumbIdsThatCouldForgeLogLines() {
+        assertThat(resolver.resolve("abc\ninjected", null)).isEqualTo(GENERATED);
+        assertThat(resolver.resolve("abc def", null)).isEqualTo(GENERATED);
+        assertThat(resolver.resolve("abc/def", null)).isEqualTo(GENERATED);
+        assertThat(resolver.resolve("abcé", null)).isEqualTo(GENERATED);
+        assertThat(resolver.resolve("x".repeat(65), null)).isEqualTo(GENERATED);
+        assertThat(resolver.resolve("", null)).isEqualTo(GENERATED);
+    }
+
+    @Test
+    void fallsBackToTheTraceIdOfAValidTraceparent() {
+        assertThat(resolver.resolve(null, TRACEPARENT)).isEqualTo(TRACE_ID);
+        assertThat(resolver.resolve("bad id", TRACEPARENT)).isEqualTo(TRACE_ID);
+        assertThat(resolver.resolve(null, "01-" + TRACE_ID + "-00f067aa0ba902b7-01-future")).isEqualTo(TRACE_ID);
+    }
+
+    @Test
+    void rejectsMalformedTraceparents() {
+        assertThat(resolver.resolve(null, TRACEPARENT + "-extra")).isEqualTo(GENERATED);
+        assertThat(resolver.resolve(null, "ff-" + TRACE_ID + "-00f067aa0ba902b7-01")).isEqualTo(GENERATED);
+        assertThat(resolver.resolve(null, "00-" + TRACE_ID.toUpperCase() + "-00f067aa0ba902b7-01")).isEqualTo(GENERATED);
+        assertThat(resolver.resolve(null, "00-" + "0".repeat(32) + "-00f067aa0ba902b7-01")).isEqualTo(GENERATED);
+        assertThat(resolver.resolve(null, "00-" + TRACE_ID + "-0000000000000000-01")).isEqualTo(GENERATED);
+        assertThat(resolver.resolve(null, "00_" + TRACE_ID + "-00f067aa0ba902b7-01")).isEqualTo(GENERATED);
+        assertThat(resolver.resolve(null, "01-" + TRACE_ID + "-00f067aa0ba902b7-01x")).isEqualTo(GENERATED);
+        assertThat(resolver.resolve(null, TRACEPARENT.substring(1))).isEqualTo(GENERATED);
+    }
+
+    @Test
+    void ignoresTheTraceparentWhenDisabled() {
+        assertThat(resolver(false).resolve(null, TRACEPARENT)).isEqualTo(GENERATED);
+    }
+
+    private static BreadcrumbIdResolver resolver(boolean traceparent) {
+        SecurityConfigProperties properties = new SecurityConfigProperties();
+        properties.getBreadcrumb().setTraceparent(traceparent);
+        return new BreadcrumbIdResolver(() -> GENERATED, properties);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class ClientIpBindingTest {
+
+    @Test
+    void requiresTheSameAddressByDefault() {
+        ClientIpBinding binding = binding(32, 128);
+
+        assertThat(binding.matches("203.0.113.10", "203.0.113.10")).isTrue();
+        assertThat(binding.matches("203.0.113.10", "203.0.113.11")).isFalse();
+        assertThat(binding.matches("2001:db8::1", "2001:db8::2")).isFalse();
+        assertThat(binding.matches(null, "203.0.113.10")).isFalse();
+        assertThat(binding.matches("203.0.113.10", null)).isFalse();
+    }
+
+    @Test
+    void comparesAddressesAsNumbers() {
+        ClientIpBinding binding = binding(32, 128);
+
+        assertThat(binding.matches("2001:db8::1", "2001:0db8:0:0:0:0:0:1")).isTrue();
+        assertThat(binding.matches("10.0.0.1", "::ffff:10.0.0.1")).isTrue();
+        assertThat(binding.matches("::ffff:10.0.0.1", "10.0.0.1")).isTrue();
+        assertThat(binding.matches("10.0.0.1", "::1")).isFalse();
+    }
+
+    @Test
+    void letsClientsMoveWithinTheBindingPrefix() {
+        ClientIpBinding binding = binding(24, 64);
+
+        assertThat(binding.matches("203.0.113.10", "203.0.113.200")).isTrue();
+        assertThat(binding.matches("203.0.113.10", "203.0.114.10")).isFalse();
+        assertThat(binding.matches("2001:db8:1:2::1", "2001:db8:1:2:ffff::9")).isTrue();
+        assertThat(binding.matches("2001:db8:1:2::1", "2001:db8:1:3::1")).isFalse();
+    }
+
+    @Test
+    void neverMatchesNonAddressesUnlessEqual() {
+        ClientIpBinding binding = binding(0, 0);
+
+        assertThat(binding.matches("unknown", "unknown")).isTrue();
+        assertThat(binding.matches("unknown", "203.0.113.10")).isFalse();
+        assertThat(binding.matches("203.0.113.10", "2001:db8::1")).isFalse();
+    }
+
+    @Test
+    void rejectsOutOfRangePrefixes() {
+        assertThatThrownBy(() -> binding(33, 128)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> binding(32, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ClientIpBinding binding(int ipv4Prefix, int ipv6Prefix) {
+        SecurityConfigProperties properties = new SecurityConfigProperties();
+        properties.getClientIp().setIpv4BindingPrefix(ipv4Prefix);
+        properties.getClientIp().setIpv6BindingPrefix(ipv6Prefix);
+        return new ClientIpBinding(properties);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class ClientIpResolverTest {
+
+    private static final String PROXY = "10.0.0.5";
+
+    @Test
+    void takesTheFirstForwardedForHopWithoutTrustedProxies() {
+        ClientIpResolver resolver = resolver(List.of());
+
+        assertThat(resolver.resolve(null, " 203.0.113.10 , 10.0.0.5", PROXY)).isEqualTo("203.0.113.10");
+        assertThat(resolver.resolve(null, "203.0.113.10", PROXY)).isEqualTo("203.0.113.10");
+        assertThat(resolver.resolve(null, null, PROXY)).isEqualTo(PROXY);
+    }
+
+    @Test
+    void ignoresForwardingHeadersFromUntrustedPeers() {
+        ClientIpResolver resolver = resolver(List.of("10.0.0.0/8"));
+
+        assertThat(resolver.resolve("for=198.51.100.1", "198.51.100.1", "192.0.2.7")).isEqualTo("192.0.2.7");
+    }
+
+    @Test
+    void walksForwardedForFromTheRightSkippingTrustedHops() {
+        ClientIpResolver resolver = resolver(List.of("10.0.0.0/8"));
+
+        assertThat(resolver.resolve(null, "198.51.100.1, 203.0.113.10, 10.0.0.7", PROXY)).isEqualTo("203.0.113.10");
+        assertThat(resolver.resolve(null, "10.1.1.1, 10.0.0.7", PROXY)).isEqualTo("10.1.1.1");
+        assertThat(resolver.resolve(null, "203.0.113.10:4711", PROXY)).isEqualTo("203.0.113.10");
+        assertThat(resolver.resolve(null, "[2001:db8::1]:4711", PROXY)).isEqualTo("2001:db8::1");
+        assertThat(resolver.resolve(null, " , ", PROXY)).isEqualTo(PROXY);
+    }
+
+    @Test
+    void prefersTheForwardedHeader() {
+        ClientIpResolver resolver = resolver(List.of("10.0.0.0/8"));
+
+        assertThat(resolver.resolve("for=198.51.100.1, for=\"203.0.113.10:80\";proto=https, for=10.0.0.7", "192.0.2.1", PROXY))
+                .isEqualTo("203.0.113.10");
+        assertThat(resolver.resolve("For=\"[2001:db8::1]\";by=10.0.0.5", "192.0.2.1", PROXY)).isEqualTo("2001:db8::1");
+        assertThat(resolver.resolve("proto=https;host=example.com", "192.0.2.1", PROXY)).isEqualTo("192.0.2.1");
+    }
+
+    @Test
+    void skipsTheForwardedHeaderWhenDisabled() {
+        SecurityConfigProperties properties = properties(List.of("10.0.0.0/8"));
+        properties.getClientIp().setForwardedHeader(false);
+        ClientIpResolver resolver = new ClientIpResolver(properties);
+
+        assertThat(resolver.resolve("for=198.51.100.1", "192.0.2.1", PROXY)).isEqualTo("192.0.2.1");
+    }
+
+    private static ClientIpResolver resolver(List<String> trustedProxies) {
+        return new ClientIpResolver(properties(trustedProxies));
+    }
+
+    private static SecurityConfigProperties properties(List<String> trustedProxies) {
+        SecurityConfigProperties properties = new SecurityConfigProperties();
+        properties.getClientIp().setTrustedProxies(trustedProxies);
+        return properties;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.authentication.CookieTokenExtractor.CookieToken;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class CookieTokenExtractorTest {
+
+    private final CookieTokenExtractor extractor = extractor("accessToken", "refreshToken");
+
+    @Test
+    void findsTheAccessCookieAmongOthers() {
+        assertThat(extractor.extract("a=1; accessToken=abc; z=2"))
+                .isEqualTo(new CookieToken("abc", AuthenticationMode.COOKIE));
+        assertThat(extractor.extract("accessToken=abc"))
+                .isEqualTo(new CookieToken("abc", AuthenticationMode.COOKIE));
+    }
+
+    @Test
+    void prefersTheAccessCookieOverTheRefreshCookie() {
+        assertThat(extractor.extract("refreshToken=r; accessToken=a"))
+                .isEqualTo(new CookieToken("a", AuthenticationMode.COOKIE));
+        assertThat(extractor.extract("a=1; refreshToken=r; z=2"))
+                .isEqualTo(new CookieToken("r", AuthenticationMode.REFRESH_COOKIE));
+    }
+
+    @Test
+    void keepsTheFirstOccurrenceOfAName() {
+        assertThat(extractor.extract("accessToken=first; accessToken=second").value()).isEqualTo("first");
+        assertThat(extractor.extract("refreshToken=first; refreshToken=second").value()).isEqualTo("first");
+    }
+
+    @Test
+    void trimsWhitespaceAndQuotes() {
+        assertThat(extractor.extract(" \taccessToken \t= \"abc\" ;z=2").value()).isEqualTo("abc");
+        assertThat(extractor.extract("accessToken=\"\"").value()).isEmpty();
+        assertThat(extractor.extract("accessToken=\"").value()).isEqualTo("\"");
+        assertThat(extractor.extract("accessToken=").value()).isEmpty();
+    }
+
+    @Test
+    void matchesWholeNamesOnly() {
+        assertThat(extractor.extract("xaccessToken=a; accessTokenx=b; accesstoken=c")).isNull();
+        assertThat(extractor.extract("accessToken; a=accessToken=b")).isNull();
+        assertThat(extractor.extract(";;; ;")).isNull();
+        assertThat(extractor.extract("")).isNull();
+        assertThat(extractor.extract((String) null)).isNull();
+    }
+
+    @Test
+    void looksAcrossSeveralHeaders() {
+        assertThat(extractor.extract(List.of("refreshToken=r", "a=1", "accessToken=a")))
+                .isEqualTo(new CookieToken("a", AuthenticationMode.COOKIE));
+        assertThat(extractor.extract(Collections.enumeration(List.of("refreshToken=r1", "refreshToken=r2"))))
+                .isEqualTo(new CookieToken("r1", AuthenticationMode.REFRESH_COOKIE));
+        assertThat(extractor.extract(List.of("a=1"))).isNull();
+        assertThat(extractor.extract((List<String>) null)).isNull();
+    }
+
+    @Test
+    void findsNothingWithoutCookieConfiguration() {
+        CookieTokenExtractor unconfigured = new CookieTokenExtractor(new SecurityConfigProperties());
+
+        assertThat(unconfigured.extract("accessToken=a; refreshToken=r")).isNull();
+    }
+
+    private static CookieTokenExtractor extractor(String cookieName, String refreshCookieName) {
+        SecurityConfigProperties properties = new SecurityConfigProperties();
+        SecurityConfigProperties.Cookie cookie = new SecurityConfigProperties.Cookie();
+        cookie.setCookieName(cookieName);
+        cookie.setRefreshCookieName(refreshCookieName);
+        properties.setCookie(cookie);
+        return new CookieTokenExtractor(properties);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 50
+ */
+
+class ErrorResponsesTest {
+
+    private final ErrorResponses errorResponses = errorResponses();
+
+    @Test
+    void keepsTheFixedBodiesByteForByte() {
+        assertResponse(errorResponses.getUnauthorized(), 401, "{\"message\":\"Unauthorized\"}");
+        assertResponse(errorResponses.getNotAuthorized(), 401, "{\"message\":\"Not Authorized to access this resource\"}");
+        assertResponse(errorResponses.getTokenExpired(), 403, "{\"message\":\"JWT token is Expired\",\"isExpired\":true}");
+        assertResponse(errorResponses.getCookieExpired(), 403, "{\"message\":\"Cookie Token is Expired in cookie\",\"isExpired\":true}");
+        assertResponse(errorResponses.getCookieMissing(), 401, "{\"message\":\"Authentication Cookie is not present in header\",\"isExpired\":null}");
+    }
+
+    @Test
+    void picksTheCookieOrBearerVariant() {
+        assertThat(errorResponses.forOutcome(AuthenticationOutcome.EXPIRED, false)).isSameAs(errorResponses.getTokenExpired());
+        assertThat(errorResponses.forOutcome(AuthenticationOutcome.EXPIRED, true)).isSameAs(errorResponses.getCookieExpired());
+        assertThat(errorResponses.forOutcome(AuthenticationOutcome.BAD_SIGNATURE, false)).isNull();
+    }
+
+    @Test
+    void carriesTheDecoderMessageForPerTokenRejections() throws Exception {
+        assertResponse(errorResponses.forOutcome(AuthenticationOutcome.INVALID_CLAIMS, false, "The iss claim is not valid"),
+                401, "{\"message\":\"The iss claim is not valid\",\"isExpired\":false}");
+        assertResponse(errorResponses.forOutcome(AuthenticationOutcome.MALFORMED, false, "Malformed"),
+                401, "{\"message\":\"Malformed\",\"isExpired\":null}");
+    }
+
+    private static void assertResponse(ErrorResponses.PreparedResponse response, int status, String body) {
+        assertThat(response.status()).isEqualTo(status);
+        assertThat(new String(response.body(), StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    private static ErrorResponses errorResponses() {
+        try {
+            return new ErrorResponses();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
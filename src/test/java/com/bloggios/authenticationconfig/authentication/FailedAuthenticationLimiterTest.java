@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class FailedAuthenticationLimiterTest {
+
+    private static final long WINDOW = 60_000;
+    private static final long BASE = 1_000 * WINDOW;
+
+    @Test
+    void limitsOnceMaxFailuresIsReached() {
+        FailedAuthenticationLimiter limiter = limiter(3, 1024);
+
+        limiter.recordFailure("203.0.113.10", BASE);
+        limiter.recordFailure("203.0.113.10", BASE + 1);
+        assertThat(limiter.isLimited("203.0.113.10", BASE + 2)).isFalse();
+
+        limiter.recordFailure("203.0.113.10", BASE + 2);
+        assertThat(limiter.isLimited("203.0.113.10", BASE + 3)).isTrue();
+        assertThat(limiter.isLimited("203.0.113.11", BASE + 3)).isFalse();
+    }
+
+    @Test
+    void weighsThePreviousWindowByItsOverlap() {
+        FailedAuthenticationLimiter limiter = limiter(10, 1024);
+        for (int i = 0; i < 10; i++) {
+            limiter.recordFailure("203.0.113.10", BASE);
+        }
+        assertThat(limiter.isLimited("203.0.113.10", BASE + WINDOW - 1)).isTrue();
+
+        // Halfway into the next window the ten earlier failures count as five
+        long halfway = BASE + WINDOW + WINDOW / 2;
+        assertThat(limiter.isLimited("203.0.113.10", halfway)).isFalse();
+        for (int i = 0; i < 4; i++) {
+            limiter.recordFailure("203.0.113.10", halfway);
+        }
+        assertThat(limiter.isLimited("203.0.113.10", halfway)).isFalse();
+        limiter.recordFailure("203.0.113.10", halfway);
+        assertThat(limiter.isLimited("203.0.113.10", halfway)).isTrue();
+
+        // Once both windows have passed nothing is left
+        assertThat(limiter.isLimited("203.0.113.10", BASE + 3 * WINDOW)).isFalse();
+        limiter.recordFailure("203.0.113.10", BASE + 3 * WINDOW);
+        assertThat(limiter.isLimited("203.0.113.10", BASE + 3 * WINDOW)).isFalse();
+    }
+
+    @Test
+    void neverLimitsWhenDisabledOrWithoutAnAddress() {
+        FailedAuthenticationLimiter disabled = new FailedAuthenticationLimiter(properties(false, 1, 1024));
+        disabled.recordFailure("203.0.113.10", BASE);
+        assertThat(disabled.isLimited("203.0.113.10", BASE)).isFalse();
+
+        FailedAuthenticationLimiter limiter = limiter(1, 1024);
+        limiter.recordFailure(null, BASE);
+        assertThat(limiter.isLimited(null, BASE)).isFalse();
+    }
+
+    @Test
+    void evictsTheStalestClientWithoutHandingOverItsCounts() {
+        FailedAuthenticationLimiter limiter = limiter(3, 8);
+        for (int i = 0; i < 3; i++) {
+            limiter.recordFailure("198.51.100.1", BASE);
+        }
+        long later = BASE + WINDOW;
+        for (int i = 2; i <= 8; i++) {
+            limiter.recordFailure("198.51.100." + i, later);
+        }
+        assertThat(limiter.isLimited("198.51.100.1", later)).isTrue();
+
+        limiter.recordFailure("198.51.100.9", later);
+        assertThat(limiter.isLimited("198.51.100.1", later)).isFalse();
+        assertThat(limiter.isLimited("198.51.100.9", later)).isFalse();
+        limiter.recordFailure("198.51.100.9", later);
+        limiter.recordFailure("198.51.100.9", later);
+        assertThat(limiter.isLimited("198.51.100.9", later)).isTrue();
+    }
+
+    @Test
+    void roundsMaxClientsUpToAPowerOfTwo() {
+        assertThat(limiter(3, 1000).capacity()).isEqualTo(1024);
+        assertThat(limiter(3, 1024).capacity()).isEqualTo(1024);
+        assertThat(limiter(3, 1).capacity()).isEqualTo(8);
+        assertThat(new FailedAuthenticationLimiter(properties(false, 3, 1024)).capacity()).isEqualTo(8);
+    }
+
+    private static FailedAuthenticationLimiter limiter(int maxFailures, int maxClients) {
+        return new FailedAuthenticationLimiter(properties(true, maxFailures, maxClients));
+    }
+
+    private static SecurityConfigProperties properties(boolean enabled, int maxFailures, int maxClients) {
+        SecurityConfigProperties properties = new SecurityConfigProperties();
+        properties.getRateLimit().setEnabled(enabled);
+        properties.getRateLimit().setMaxFailures(maxFailures);
+        properties.getRateLimit().setWindow(Duration.ofMillis(WINDOW));
+        properties.getRateLimit().setMaxClients(maxClients);
+        return properties;
+    }
+}
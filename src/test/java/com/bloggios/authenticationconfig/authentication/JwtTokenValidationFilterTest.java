@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.TestTokens;
+import com.bloggios.authenticationconfig.audit.AuthenticationAuditLog;
+import com.bloggios.authenticationconfig.metrics.AuthenticationMetrics;
+import com.bloggios.authenticationconfig.payload.AuthenticatedUser;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.revocation.RevocationSource;
+import com.bloggios.authenticationconfig.revocation.TokenRevocationList;
+import com.bloggios.authenticationconfig.util.JwtDecoderUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class JwtTokenValidationFilterTest {
+
+    private static final String FOREIGN_IP = "198.51.100.7";
+    private static final String FORGED_TOKEN = TestTokens.sign(TestTokens.claims(Duration.ofHours(1)).build(), TestTokens.FOREIGN_KEY_PAIR);
+
+    private final AuthenticationMetrics authenticationMetrics = mock(AuthenticationMetrics.class);
+    private final AuthenticationAuditLog authenticationAuditLog = mock(AuthenticationAuditLog.class);
+    private final List<Authentication> chainAuthentications = new ArrayList<>();
+    private TokenVerifier tokenVerifier;
+    private JwtTokenValidationFilter filter;
+
+    @BeforeEach
+    void createFilter() {
+        SecurityConfigProperties properties = TestTokens.properties();
+        SecurityConfigProperties.Exclude exclude = new SecurityConfigProperties.Exclude();
+        exclude.setPaths(List.of("/auth/**"));
+        properties.setExclude(exclude);
+        SecurityConfigProperties.Cookie cookie = new SecurityConfigProperties.Cookie();
+        cookie.setCookieName("access");
+        cookie.setRefreshCookieName("refresh");
+        cookie.setPaths(List.of("/data/**"));
+        properties.setCookie(cookie);
+        properties.getRateLimit().setEnabled(true);
+        properties.getRateLimit().setMaxFailures(1);
+        JwtDecoder jwtDecoder = TestTokens.jwtDecoder(properties);
+        tokenVerifier = spy(new TokenVerifier(
+                jwtDecoder,
+                new RejectedTokenCache(properties),
+                TestTokens.errorResponses(),
+                new TokenRevocationList(RevocationSource.NONE, properties)
+        ));
+        when(authenticationAuditLog.isEnabled()).thenReturn(true);
+        filter = new JwtTokenValidationFilter(
+                new JwtDecoderUtil(jwtDecoder, new AuthorityRegistry()),
+                tokenVerifier,
+                new BreadcrumbIdResolver(new TimeOrderedBreadcrumbIdGenerator(), properties),
+                new ClientIpResolver(properties),
+                new ClientIpBinding(properties),
+                new FailedAuthenticationLimiter(properties),
+                new CookieTokenExtractor(properties),
+                new PathClassifier(properties, new AntPathMatcher()),
+                new ErrorResponseWriter(TestTokens.errorResponses()),
+                authenticationMetrics,
+                authenticationAuditLog
+        );
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesABearerToken() throws Exception {
+        MockHttpServletResponse response = filter(bearer("/api/v1/blogs", TestTokens.token(Duration.ofHours(1)), TestTokens.CLIENT_IP));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chainAuthentications).singleElement()
+                .satisfies(authentication -> assertThat(((AuthenticatedUser) authentication.getPrincipal()).getUserId()).isEqualTo(TestTokens.USER_ID));
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.BEARER, AuthenticationOutcome.SUCCESS);
+        verify(authenticationAuditLog).record(eq(AuthenticationMode.BEARER), eq(AuthenticationOutcome.SUCCESS), eq(TestTokens.USER_ID), eq(TestTokens.CLIENT_IP), anyString());
+    }
+
+    @Test
+    void letsRequestsWithoutABearerTokenThroughAnonymously() throws Exception {
+        MockHttpServletResponse response = filter(request("/api/v1/blogs", TestTokens.CLIENT_IP));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chainAuthentications).containsExactly((Authentication) null);
+        verify(tokenVerifier, never()).verify(anyString(), anyBoolean());
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.BEARER, AuthenticationOutcome.ANONYMOUS);
+    }
+
+    @Test
+    void skipsVerificationOnExcludedPaths() throws Exception {
+        MockHttpServletResponse response = filter(bearer("/auth/login", FORGED_TOKEN, TestTokens.CLIENT_IP));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chainAuthentications).containsExactly((Authentication) null);
+        verify(tokenVerifier, never()).verify(anyString(), anyBoolean());
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.EXCLUDED, AuthenticationOutcome.ANONYMOUS);
+        verify(authenticationAuditLog).record(eq(AuthenticationMode.EXCLUDED), eq(AuthenticationOutcome.ANONYMOUS), isNull(), eq(TestTokens.CLIENT_IP), anyString());
+    }
+
+    @Test
+    void authenticatesTheRefreshCookieOnCookiePaths() throws Exception {
+        MockHttpServletRequest request = request("/data/refresh", FOREIGN_IP);
+        request.addHeader(HttpHeaders.COOKIE, "theme=dark; refresh=" + TestTokens.token(Duration.ofHours(1)));
+
+        MockHttpServletResponse response = filter(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chainAuthentications).singleElement().isNotNull();
+        verify(tokenVerifier).verify(anyString(), eq(true));
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.REFRESH_COOKIE, AuthenticationOutcome.SUCCESS);
+    }
+
+    @Test
+    void rejectsCookiePathsWithoutTheCookie() throws Exception {
+        MockHttpServletRequest request = bearer("/data/refresh", TestTokens.token(Duration.ofHours(1)), TestTokens.CLIENT_IP);
+
+        MockHttpServletResponse response = filter(request);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsString()).contains(ErrorResponses.COOKIE_MISSING_MESSAGE);
+        assertThat(chainAuthentications).isEmpty();
+        verify(tokenVerifier, never()).verify(anyString(), anyBoolean());
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.COOKIE, AuthenticationOutcome.MISSING_COOKIE);
+    }
+
+    @Test
+    void turnsALimitedClientAwayBeforeVerifyingItsToken() throws Exception {
+        MockHttpServletResponse first = filter(bearer("/api/v1/blogs", FORGED_TOKEN, TestTokens.CLIENT_IP));
+        MockHttpServletResponse second = filter(bearer("/api/v1/blogs", TestTokens.token(Duration.ofHours(1)), TestTokens.CLIENT_IP));
+
+        assertThat(first.getStatus()).isEqualTo(401);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(chainAuthentications).isEmpty();
+        verify(tokenVerifier, times(1)).verify(anyString(), anyBoolean());
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.BEARER, AuthenticationOutcome.BAD_SIGNATURE);
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.BEARER, AuthenticationOutcome.RATE_LIMITED);
+    }
+
+    @Test
+    void stopsAfterRejectingATokenFromAnotherDevice() throws Exception {
+        MockHttpServletResponse response = filter(bearer("/api/v1/blogs", TestTokens.token(Duration.ofHours(1)), FOREIGN_IP));
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsString()).contains(ErrorResponses.FOREIGN_DEVICE_MESSAGE);
+        assertThat(chainAuthentications).isEmpty();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(authenticationMetrics, times(1)).recordOutcome(eq(AuthenticationMode.BEARER), eq(AuthenticationOutcome.FOREIGN_IP));
+        verify(authenticationMetrics, never()).recordOutcome(AuthenticationMode.BEARER, AuthenticationOutcome.SUCCESS);
+        verify(authenticationAuditLog).record(eq(AuthenticationMode.BEARER), eq(AuthenticationOutcome.FOREIGN_IP), eq(TestTokens.USER_ID), eq(FOREIGN_IP), anyString());
+
+        // The rejection counted as a failed attempt against the peer address
+        assertThat(filter(bearer("/api/v1/blogs", TestTokens.token(Duration.ofHours(1)), FOREIGN_IP)).getStatus()).isEqualTo(429);
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (filteredRequest, filteredResponse) -> chainAuthentications.add(SecurityContextHolder.getContext().getAuthentication()));
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+
+    private static MockHttpServletRequest bearer(String path, String token, String remoteAddress) {
+        MockHttpServletRequest request = request(path, remoteAddress);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return request;
+    }
+
+    private static MockHttpServletRequest request(String path, String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 55
+ */
+
+class PathClassifierTest {
+
+    private final PathClassifier pathClassifier = classifier(
+            List.of("/auth/**", "/api/v1/public/**", "/actuator/health", "/**/*.js"),
+            List.of("/data/refresh/**", "/auth/logout")
+    );
+
+    @Test
+    void classifiesLiteralAndWildcardPatterns() {
+        assertThat(pathClassifier.classify("/auth/login")).isEqualTo(PathClassifier.PathType.EXCLUDED);
+        assertThat(pathClassifier.classify("/api/v1/public/blogs/42")).isEqualTo(PathClassifier.PathType.EXCLUDED);
+        assertThat(pathClassifier.classify("/actuator/health")).isEqualTo(PathClassifier.PathType.EXCLUDED);
+        assertThat(pathClassifier.classify("/static/app/main.js")).isEqualTo(PathClassifier.PathType.EXCLUDED);
+        assertThat(pathClassifier.classify("/data/refresh/token")).isEqualTo(PathClassifier.PathType.COOKIE);
+        assertThat(pathClassifier.classify("/api/v1/blogs/42")).isEqualTo(PathClassifier.PathType.BEARER);
+        assertThat(pathClassifier.classify("/actuator/health/liveness")).isEqualTo(PathClassifier.PathType.BEARER);
+    }
+
+    @Test
+    void letsACookiePatternWinOverAnExcludedPattern() {
+        assertThat(pathClassifier.classify("/auth/logout")).isEqualTo(PathClassifier.PathType.COOKIE);
+        assertThat(pathClassifier.classify("/auth/login")).isEqualTo(PathClassifier.PathType.EXCLUDED);
+    }
+
+    @Test
+    void classifiesEveryPathAsBearerWithoutPatterns() {
+        PathClassifier empty = new PathClassifier(new SecurityConfigProperties(), new AntPathMatcher());
+
+        assertThat(empty.classify("/")).isEqualTo(PathClassifier.PathType.BEARER);
+        assertThat(empty.isExcluded("/auth/login")).isFalse();
+    }
+
+    @Test
+    void givesTheSameAnswerForRepeatedAndUniquePaths() {
+        for (int i = 0; i < 5000; i++) {
+            assertThat(pathClassifier.classify("/api/v1/blogs/" + i)).isEqualTo(PathClassifier.PathType.BEARER);
+            assertThat(pathClassifier.classify("/auth/login")).isEqualTo(PathClassifier.PathType.EXCLUDED);
+        }
+    }
+
+    private static PathClassifier classifier(List<String> excludePaths, List<String> cookiePaths) {
+        SecurityConfigProperties properties = new SecurityConfigProperties();
+        SecurityConfigProperties.Exclude exclude = new SecurityConfigProperties.Exclude();
+        exclude.setPaths(excludePaths);
+        SecurityConfigProperties.Cookie cookie = new SecurityConfigProperties.Cookie();
+        cookie.setPaths(cookiePaths);
+        properties.setExclude(exclude);
+        properties.setCookie(cookie);
+        return new PathClassifier(properties, new AntPathMatcher());
+    }
+}
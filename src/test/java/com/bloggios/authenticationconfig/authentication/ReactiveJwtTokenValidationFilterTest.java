@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.TestTokens;
+import com.bloggios.authenticationconfig.audit.AuthenticationAuditLog;
+import com.bloggios.authenticationconfig.metrics.AuthenticationMetrics;
+import com.bloggios.authenticationconfig.payload.AuthenticatedUser;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.revocation.RevocationSource;
+import com.bloggios.authenticationconfig.revocation.TokenRevocationList;
+import com.bloggios.authenticationconfig.util.JwtDecoderUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebHandler;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class ReactiveJwtTokenValidationFilterTest {
+
+    private static final String FOREIGN_IP = "198.51.100.7";
+    private static final String FORGED_TOKEN = TestTokens.sign(TestTokens.claims(Duration.ofHours(1)).build(), TestTokens.FOREIGN_KEY_PAIR);
+    private static final String ANONYMOUS = "anonymous";
+
+    private final AuthenticationMetrics authenticationMetrics = mock(AuthenticationMetrics.class);
+    private final AuthenticationAuditLog authenticationAuditLog = mock(AuthenticationAuditLog.class);
+    private final Scheduler verificationScheduler = Schedulers.newSingle("test-verification");
+    private SecurityConfigProperties properties;
+    private TokenVerifier tokenVerifier;
+    private WebTestClient webTestClient;
+    // The mock request has no peer, every exchange gets this one
+    private String peerAddress = TestTokens.CLIENT_IP;
+
+    @BeforeEach
+    void createFilter() {
+        properties = TestTokens.properties();
+        SecurityConfigProperties.Exclude exclude = new SecurityConfigProperties.Exclude();
+        exclude.setPaths(List.of("/auth/**"));
+        properties.setExclude(exclude);
+        SecurityConfigProperties.Cookie cookie = new SecurityConfigProperties.Cookie();
+        cookie.setCookieName("access");
+        cookie.setRefreshCookieName("refresh");
+        cookie.setPaths(List.of("/data/**"));
+        properties.setCookie(cookie);
+        properties.getRateLimit().setEnabled(true);
+        properties.getRateLimit().setMaxFailures(1);
+        JwtDecoder jwtDecoder = TestTokens.jwtDecoder(properties);
+        tokenVerifier = spy(new TokenVerifier(
+                jwtDecoder,
+                new RejectedTokenCache(properties),
+                TestTokens.errorResponses(),
+                new TokenRevocationList(RevocationSource.NONE, properties)
+        ));
+        when(authenticationAuditLog.isEnabled()).thenReturn(true);
+        ReactiveJwtTokenValidationFilter filter = new ReactiveJwtTokenValidationFilter(
+                new JwtDecoderUtil(jwtDecoder, new AuthorityRegistry()),
+                tokenVerifier,
+                new BreadcrumbIdResolver(new TimeOrderedBreadcrumbIdGenerator(), properties),
+                new ClientIpResolver(properties),
+                new ClientIpBinding(properties),
+                new FailedAuthenticationLimiter(properties),
+                new CookieTokenExtractor(properties),
+                new PathClassifier(properties, new AntPathMatcher()),
+                new ReactiveErrorResponseWriter(),
+                authenticationMetrics,
+                authenticationAuditLog,
+                verificationScheduler
+        );
+        WebFilter peer = (exchange, chain) -> chain.filter(exchange.mutate().request(new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public InetSocketAddress getRemoteAddress() {
+                return new InetSocketAddress(peerAddress, 443);
+            }
+        }).build());
+        WebHandler handler = exchange -> ReactiveSecurityContextHolder.getContext()
+                .map(context -> ((AuthenticatedUser) context.getAuthentication().getPrincipal()).getUserId())
+                .defaultIfEmpty(ANONYMOUS)
+                .flatMap(body -> exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8)))));
+        webTestClient = WebTestClient.bindToWebHandler(handler).webFilter(peer, filter).build();
+    }
+
+    @AfterEach
+    void disposeScheduler() {
+        verificationScheduler.dispose();
+    }
+
+    @Test
+    void authenticatesABearerToken() throws Exception {
+        bearer("/api/v1/blogs", TestTokens.token(Duration.ofHours(1)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo(TestTokens.USER_ID);
+
+        verify(tokenVerifier).decode(anyString(), any(), eq(false));
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.BEARER, AuthenticationOutcome.SUCCESS);
+        verify(authenticationAuditLog).record(eq(AuthenticationMode.BEARER), eq(AuthenticationOutcome.SUCCESS), eq(TestTokens.USER_ID), eq(TestTokens.CLIENT_IP), anyString());
+    }
+
+    @Test
+    void letsRequestsWithoutABearerTokenThroughAnonymously() throws Exception {
+        webTestClient.get().uri("/api/v1/blogs")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo(ANONYMOUS);
+
+        verify(tokenVerifier, never()).decode(anyString(), any(), anyBoolean());
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.BEARER, AuthenticationOutcome.ANONYMOUS);
+    }
+
+    @Test
+    void skipsVerificationOnExcludedPaths() throws Exception {
+        bearer("/auth/login", FORGED_TOKEN)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo(ANONYMOUS);
+
+        verify(tokenVerifier, never()).decode(anyString(), any(), anyBoolean());
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.EXCLUDED, AuthenticationOutcome.ANONYMOUS);
+        verify(authenticationAuditLog).record(eq(AuthenticationMode.EXCLUDED), eq(AuthenticationOutcome.ANONYMOUS), isNull(), eq(TestTokens.CLIENT_IP), anyString());
+    }
+
+    @Test
+    void authenticatesTheRefreshCookieOnCookiePaths() throws Exception {
+        peerAddress = FOREIGN_IP;
+
+        webTestClient.get().uri("/data/refresh")
+                .header(HttpHeaders.COOKIE, "theme=dark; refresh=" + TestTokens.token(Duration.ofHours(1)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo(TestTokens.USER_ID);
+
+        verify(tokenVerifier).decode(anyString(), any(), eq(true));
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.REFRESH_COOKIE, AuthenticationOutcome.SUCCESS);
+    }
+
+    @Test
+    void rejectsCookiePathsWithoutTheCookie() throws Exception {
+        bearer("/data/refresh", TestTokens.token(Duration.ofHours(1)))
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody(String.class).value(body -> assertThat(body).contains(ErrorResponses.COOKIE_MISSING_MESSAGE));
+
+        verify(tokenVerifier, never()).decode(anyString(), any(), anyBoolean());
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.COOKIE, AuthenticationOutcome.MISSING_COOKIE);
+    }
+
+    @Test
+    void turnsALimitedClientAwayBeforeVerifyingItsToken() throws Exception {
+        bearer("/api/v1/blogs", FORGED_TOKEN)
+                .exchange()
+                .expectStatus().isUnauthorized();
+        bearer("/api/v1/blogs", TestTokens.token(Duration.ofHours(1)))
+                .exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "60");
+
+        verify(tokenVerifier, times(1)).decode(anyString(), any(), anyBoolean());
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.BEARER, AuthenticationOutcome.BAD_SIGNATURE);
+        verify(authenticationMetrics).recordOutcome(AuthenticationMode.BEARER, AuthenticationOutcome.RATE_LIMITED);
+    }
+
+    @Test
+    void stopsAfterRejectingATokenFromAnotherDevice() throws Exception {
+        peerAddress = FOREIGN_IP;
+
+        bearer("/api/v1/blogs", TestTokens.token(Duration.ofHours(1)))
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody(String.class).value(body -> assertThat(body)
+                        .contains(ErrorResponses.FOREIGN_DEVICE_MESSAGE)
+                        .doesNotContain(TestTokens.USER_ID));
+
+        verify(authenticationMetrics, times(1)).recordOutcome(AuthenticationMode.BEARER, AuthenticationOutcome.FOREIGN_IP);
+        verify(authenticationMetrics, never()).recordOutcome(AuthenticationMode.BEARER, AuthenticationOutcome.SUCCESS);
+        verify(authenticationAuditLog).record(eq(AuthenticationMode.BEARER), eq(AuthenticationOutcome.FOREIGN_IP), eq(TestTokens.USER_ID), eq(FOREIGN_IP), anyString());
+
+        // The rejection counted as a failed attempt against the peer address
+        bearer("/api/v1/blogs", TestTokens.token(Duration.ofHours(1)))
+                .exchange()
+                .expectStatus().isEqualTo(429);
+    }
+
+    private WebTestClient.RequestHeadersSpec<?> bearer(String path, String token) {
+        return webTestClient.get().uri(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+}
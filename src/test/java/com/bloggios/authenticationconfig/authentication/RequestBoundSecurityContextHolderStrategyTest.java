@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class RequestBoundSecurityContextHolderStrategyTest {
+
+    private static final Authentication ALICE = new TestingAuthenticationToken("alice", null);
+    private static final Authentication BOB = new TestingAuthenticationToken("bob", null);
+
+    private SecurityContextHolderStrategy original;
+
+    @BeforeEach
+    void install() {
+        original = SecurityContextHolder.getContextHolderStrategy();
+        RequestBoundSecurityContextHolderStrategy.install();
+    }
+
+    @AfterEach
+    void restore() {
+        SecurityContextHolder.clearContext();
+        SecurityContextHolder.setContextHolderStrategy(original);
+    }
+
+    @Test
+    void installsItselfOnce() {
+        SecurityContextHolderStrategy installed = SecurityContextHolder.getContextHolderStrategy();
+
+        assertThat(RequestBoundSecurityContextHolderStrategy.isActive()).isTrue();
+        assertThat(RequestBoundSecurityContextHolderStrategy.install()).isSameAs(installed);
+    }
+
+    @Test
+    void neverLetsAnotherThreadSeeTheContext() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        SecurityContextHolder.getContext().setAuthentication(ALICE);
+
+        Authentication seenByChild = CompletableFuture.supplyAsync(() -> {
+            Authentication inherited = SecurityContextHolder.getContext().getAuthentication();
+            SecurityContextHolder.getContext().setAuthentication(BOB);
+            return inherited;
+        }, executor).get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(seenByChild).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(ALICE);
+    }
+
+    @Test
+    void keepsConcurrentRequestsApart() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            Authentication authentication = new TestingAuthenticationToken("user-" + thread, null);
+            futures.add(executor.submit(() -> {
+                boolean isolated = true;
+                for (int request = 0; request < 200; request++) {
+                    try (RequestBoundSecurityContextHolderStrategy.Scope scope = RequestBoundSecurityContextHolderStrategy.open()) {
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        if (request % 50 == 0) {
+                            barrier.await(5, TimeUnit.SECONDS);
+                        }
+                        isolated &= SecurityContextHolder.getContext().getAuthentication() == authentication;
+                    }
+                    isolated &= SecurityContextHolder.getContext().getAuthentication() == null;
+                }
+                return isolated;
+            }));
+        }
+        for (Future<Boolean> future : futures) {
+            assertThat(future.get(30, TimeUnit.SECONDS)).isTrue();
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void restoresTheEnclosingContextWhenAScopeCloses() {
+        SecurityContextHolder.getContext().setAuthentication(ALICE);
+
+        try (RequestBoundSecurityContextHolderStrategy.Scope scope = RequestBoundSecurityContextHolderStrategy.open()) {
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(ALICE);
+            SecurityContextHolder.getContext().setAuthentication(BOB);
+        }
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(ALICE);
+    }
+
+    @Test
+    void restoresThePreviousBindingWhenTheActionFails() {
+        SecurityContextHolder.getContext().setAuthentication(ALICE);
+
+        assertThatThrownBy(() -> RequestBoundSecurityContextHolderStrategy.callWhere(new SecurityContextImpl(BOB), () -> {
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(BOB);
+            throw new IllegalStateException("failed");
+        })).hasMessage("failed");
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(ALICE);
+    }
+
+    @Test
+    void handsTheContextToAWrappedTaskOnly() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        SecurityContextHolder.getContext().setAuthentication(ALICE);
+        List<Authentication> seen = new ArrayList<>();
+
+        executor.submit(RequestBoundSecurityContextHolderStrategy.wrap(() -> seen.add(SecurityContextHolder.getContext().getAuthentication()))).get(5, TimeUnit.SECONDS);
+        executor.submit(() -> seen.add(SecurityContextHolder.getContext().getAuthentication())).get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(seen).containsExactly(ALICE, null);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.authentication;
+
+import com.bloggios.authenticationconfig.TestTokens;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.bloggios.authenticationconfig.revocation.RevocationSource;
+import com.bloggios.authenticationconfig.revocation.TokenRevocationList;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.authentication
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 40
+ */
+
+class TokenVerifierTest {
+
+    private static final String FORGED_TOKEN = TestTokens.sign(TestTokens.claims(Duration.ofHours(1)).build(), TestTokens.FOREIGN_KEY_PAIR);
+
+    @Test
+    void skipsHashingWhenNoCacheIsEnabled() throws Exception {
+        SecurityConfigProperties properties = TestTokens.properties();
+        properties.getRejectedTokenCache().setEnabled(false);
+        RejectedTokenCache rejectedTokenCache = new RejectedTokenCache(properties);
+        TokenVerifier tokenVerifier = tokenVerifier(properties, rejectedTokenCache);
+
+        assertThat(tokenVerifier.digest(FORGED_TOKEN)).isNull();
+        assertThat(tokenVerifier.verify(FORGED_TOKEN, false).outcome()).isEqualTo(AuthenticationOutcome.BAD_SIGNATURE);
+        assertThat(rejectedTokenCache.size()).isZero();
+    }
+
+    @Test
+    void hashesOnceForBothCaches() {
+        SecurityConfigProperties properties = TestTokens.properties();
+        properties.getRejectedTokenCache().setEnabled(false);
+        properties.getTokenCache().setEnabled(true);
+        TokenVerifier tokenVerifier = tokenVerifier(properties, new RejectedTokenCache(properties));
+
+        assertThat(tokenVerifier.digest(FORGED_TOKEN)).isNotNull();
+    }
+
+    @Test
+    void answersRepeatedRejectionsFromTheCacheUntilItIsCleared() throws Exception {
+        SecurityConfigProperties properties = TestTokens.properties();
+        RejectedTokenCache rejectedTokenCache = new RejectedTokenCache(properties);
+        TokenVerifier tokenVerifier = tokenVerifier(properties, rejectedTokenCache);
+
+        TokenVerifier.Verification first = tokenVerifier.verify(FORGED_TOKEN, false);
+        TokenVerifier.Verification second = tokenVerifier.verify(FORGED_TOKEN, false);
+        assertThat(second.rejection()).isSameAs(first.rejection());
+        assertThat(rejectedTokenCache.getHitCount()).isEqualTo(1);
+
+        rejectedTokenCache.clear();
+        TokenVerifier.Verification third = tokenVerifier.verify(FORGED_TOKEN, false);
+        assertThat(third.rejection()).isNotSameAs(first.rejection());
+        assertThat(third.outcome()).isEqualTo(AuthenticationOutcome.BAD_SIGNATURE);
+    }
+
+    @Test
+    void acceptsAValidToken() throws Exception {
+        SecurityConfigProperties properties = TestTokens.properties();
+        TokenVerifier tokenVerifier = tokenVerifier(properties, new RejectedTokenCache(properties));
+
+        TokenVerifier.Verification verification = tokenVerifier.verify(TestTokens.token(Duration.ofHours(1)), false);
+
+        assertThat(verification.outcome()).isEqualTo(AuthenticationOutcome.SUCCESS);
+        assertThat(verification.jwt().getSubject()).isEqualTo(TestTokens.USER_ID);
+    }
+
+    private static TokenVerifier tokenVerifier(SecurityConfigProperties properties, RejectedTokenCache rejectedTokenCache) {
+        return new TokenVerifier(
+                TestTokens.jwtDecoder(properties),
+                rejectedTokenCache,
+                TestTokens.errorResponses(),
+                new TokenRevocationList(RevocationSource.NONE, properties)
+        );
+    }
+}
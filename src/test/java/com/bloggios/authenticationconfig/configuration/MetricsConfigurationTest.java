@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.configuration;
+
+import com.bloggios.authenticationconfig.audit.AuthenticationAuditLog;
+import com.bloggios.authenticationconfig.authentication.RejectedTokenCache;
+import com.bloggios.authenticationconfig.metrics.AuthenticationMetrics;
+import com.bloggios.authenticationconfig.metrics.MicrometerAuthenticationMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.configuration
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 58
+ */
+
+class MetricsConfigurationTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MetricsConfiguration.class))
+            .withUserConfiguration(Collaborators.class);
+
+    @Test
+    void fallsBackToNoopWhenMetricsAreDisabled() {
+        contextRunner.run(context -> assertThat(context.getBean(AuthenticationMetrics.class)).isSameAs(AuthenticationMetrics.NOOP));
+    }
+
+    @Test
+    void registersMicrometerMetricsWhenEnabled() {
+        contextRunner
+                .withPropertyValues("security-config.metrics.enabled=true")
+                .run(context -> assertThat(context.getBean(AuthenticationMetrics.class)).isInstanceOf(MicrometerAuthenticationMetrics.class));
+    }
+
+    @Test
+    void backsOffForAnApplicationDefinedBean() {
+        contextRunner
+                .withPropertyValues("security-config.metrics.enabled=true")
+                .withBean("customAuthenticationMetrics", AuthenticationMetrics.class, () -> AuthenticationMetrics.NOOP)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(AuthenticationMetrics.class);
+                    assertThat(context.getBean(AuthenticationMetrics.class)).isSameAs(AuthenticationMetrics.NOOP);
+                });
+    }
+
+    @Configuration
+    static class Collaborators {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        JwtDecoder jwtDecoder() {
+            return mock(JwtDecoder.class);
+        }
+
+        @Bean
+        RejectedTokenCache rejectedTokenCache() {
+            return mock(RejectedTokenCache.class);
+        }
+
+        @Bean
+        AuthenticationAuditLog authenticationAuditLog() {
+            return mock(AuthenticationAuditLog.class);
+        }
+    }
+}
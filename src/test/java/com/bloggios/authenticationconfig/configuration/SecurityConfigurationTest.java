@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.configuration;
+
+import com.bloggios.authenticationconfig.audit.AuthenticationAuditLog;
+import com.bloggios.authenticationconfig.authentication.BloggiosAuthenticationEntryPoint;
+import com.bloggios.authenticationconfig.authentication.JwtTokenValidationFilter;
+import com.bloggios.authenticationconfig.authentication.TokenVerifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.web.SecurityFilterChain;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.configuration
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class SecurityConfigurationTest {
+
+    private static final AutoConfigurations CONFIGURATIONS = AutoConfigurations.of(
+            ApplicationBeans.class,
+            MetricsConfiguration.class,
+            SecurityConfiguration.class
+    );
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(CONFIGURATIONS)
+            .withConfiguration(AutoConfigurations.of(WebMvcAutoConfiguration.class))
+            .withBean(JwtDecoder.class, () -> mock(JwtDecoder.class));
+
+    @Test
+    void wiresTheServletChain() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(SecurityFilterChain.class);
+            assertThat(context).hasSingleBean(JwtTokenValidationFilter.class);
+            assertThat(context).hasSingleBean(TokenVerifier.class);
+            assertThat(context).doesNotHaveBean(AuthenticationAuditLog.class);
+        });
+    }
+
+    @Test
+    void buildsNothingOutsideAWebApplication() {
+        new ApplicationContextRunner()
+                .withConfiguration(CONFIGURATIONS)
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).doesNotHaveBean(JwtDecoder.class);
+                    assertThat(context).doesNotHaveBean(TokenVerifier.class);
+                    assertThat(context).doesNotHaveBean(SecurityFilterChain.class);
+                });
+    }
+
+    @Test
+    void backsOffForApplicationDefinedChainAndHandlers() {
+        BloggiosAuthenticationEntryPoint entryPoint = mock(BloggiosAuthenticationEntryPoint.class);
+        contextRunner
+                .withBean("applicationFilterChain", SecurityFilterChain.class, () -> mock(SecurityFilterChain.class))
+                .withBean("applicationEntryPoint", BloggiosAuthenticationEntryPoint.class, () -> entryPoint)
+                .run(context -> {
+                    assertThat(context).getBeanNames(SecurityFilterChain.class).containsExactly("applicationFilterChain");
+                    assertThat(context.getBean(BloggiosAuthenticationEntryPoint.class)).isSameAs(entryPoint);
+                });
+    }
+
+    @Test
+    void createsTheAuditLogOnlyWhenEnabled(@TempDir Path directory) {
+        contextRunner
+                .withPropertyValues(
+                        "security-config.audit.enabled=true",
+                        "security-config.audit.file=" + directory.resolve("audit.log")
+                )
+                .run(context -> {
+                    assertThat(context).hasSingleBean(AuthenticationAuditLog.class);
+                    assertThat(context.getBean(AuthenticationAuditLog.class).isEnabled()).isTrue();
+                });
+    }
+
+    @Test
+    void leavesMethodSecurityOutWhenDisabled() {
+        contextRunner
+                .withPropertyValues("security-config.method-security.enabled=false")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).doesNotHaveBean(SecurityConfiguration.MethodSecurityConfiguration.class);
+                    assertThat(context).hasSingleBean(HttpSecurity.class);
+                });
+    }
+}
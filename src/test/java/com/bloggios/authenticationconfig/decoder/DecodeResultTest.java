@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.decoder;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.decoder
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class DecodeResultTest {
+
+    @Test
+    void classifiesAnExpiryFromTheTimestampValidatorAsExpired() {
+        JwtValidationException exception = validate(jwt(Instant.now().minusSeconds(3600), null));
+        JwtDecoder decoder = token -> {
+            throw exception;
+        };
+
+        DecodeResult result = DecodeResult.decode(decoder, "token");
+
+        assertThat(result.status()).isEqualTo(DecodeResult.Status.EXPIRED);
+        assertThat(result.error().getDescription()).startsWith("Jwt expired at ");
+        assertThat(result.message()).isEqualTo(exception.getMessage());
+        assertThatThrownBy(result::orElseThrow).isSameAs(exception);
+    }
+
+    @Test
+    void keepsOtherValidationFailuresAsInvalidClaims() {
+        JwtValidationException notBefore = validate(jwt(null, Instant.now().plusSeconds(3600)));
+        JwtValidationException audience = new JwtValidationException("bad audience",
+                List.of(new OAuth2Error("invalid_token", "The aud claim is not valid", null)));
+
+        assertThat(DecodeResult.rejected(notBefore).status()).isEqualTo(DecodeResult.Status.INVALID_CLAIMS);
+        assertThat(DecodeResult.rejected(audience).status()).isEqualTo(DecodeResult.Status.INVALID_CLAIMS);
+        assertThat(DecodeResult.rejected(audience).error().getDescription()).isEqualTo("The aud claim is not valid");
+    }
+
+    @Test
+    void looksForTheExpiryInEveryError() {
+        JwtValidationException exception = new JwtValidationException("rejected", List.of(
+                new OAuth2Error("invalid_token", "The aud claim is not valid", null),
+                new OAuth2Error("invalid_token", "Token EXPIRED", null)
+        ));
+
+        DecodeResult result = DecodeResult.rejected(exception);
+
+        assertThat(result.status()).isEqualTo(DecodeResult.Status.EXPIRED);
+        assertThat(result.error().getDescription()).isEqualTo("The aud claim is not valid");
+    }
+
+    @Test
+    void separatesMalformedTokensFromBadSignatures() {
+        BadJwtException malformed = new BadJwtException("unparseable", new ParseException("Invalid JWS header", 0));
+        BadJwtException signature = new BadJwtException("Signed JWT rejected: Invalid signature");
+
+        assertThat(DecodeResult.rejected(malformed).status()).isEqualTo(DecodeResult.Status.MALFORMED);
+        assertThat(DecodeResult.rejected(signature).status()).isEqualTo(DecodeResult.Status.BAD_SIGNATURE);
+    }
+
+    @Test
+    void rethrowsWhatIsNotATokenProblem() {
+        JwtException unreachable = new JwtException("Couldn't retrieve remote JWK set");
+
+        assertThatThrownBy(() -> DecodeResult.rejected(unreachable)).isSameAs(unreachable);
+    }
+
+    @Test
+    void appliesTheTimestampRulesToVerifiedTokens() {
+        assertThat(DecodeResult.validated(jwt(Instant.now().plusSeconds(3600), null)).isValid()).isTrue();
+        assertThat(DecodeResult.validated(jwt(Instant.now().minusSeconds(30), null)).isValid()).isTrue();
+
+        DecodeResult expired = DecodeResult.validated(jwt(Instant.now().minusSeconds(3600), null));
+        assertThat(expired.status()).isEqualTo(DecodeResult.Status.EXPIRED);
+        assertThatThrownBy(expired::orElseThrow)
+                .isInstanceOf(JwtValidationException.class)
+                .hasMessageStartingWith("An error occurred while attempting to decode the Jwt: Jwt expired at ");
+
+        DecodeResult early = DecodeResult.validated(jwt(null, Instant.now().plusSeconds(3600)));
+        assertThat(early.status()).isEqualTo(DecodeResult.Status.INVALID_CLAIMS);
+    }
+
+    private static JwtValidationException validate(Jwt jwt) {
+        OAuth2TokenValidatorResult result = new JwtTimestampValidator().validate(jwt);
+        assertThat(result.hasErrors()).isTrue();
+        return new JwtValidationException(
+                String.format(DecodeResult.DECODING_ERROR_MESSAGE_TEMPLATE, result.getErrors().iterator().next().getDescription()),
+                result.getErrors()
+        );
+    }
+
+    private static Jwt jwt(Instant expiresAt, Instant notBefore) {
+        Jwt.Builder builder = Jwt.withTokenValue("token").header("alg", "RS256").subject("user-1");
+        if (expiresAt != null) {
+            builder.issuedAt(expiresAt.minusSeconds(7200)).expiresAt(expiresAt);
+        }
+        if (notBefore != null) {
+            builder.notBefore(notBefore);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.decoder;
+
+import com.bloggios.authenticationconfig.TestTokens;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.proc.SingleKeyJWSKeySelector;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.decoder
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class DecoderWarmUpTest {
+
+    private static final JwkSetKeyProvider.VerificationKey KEY = new JwkSetKeyProvider.VerificationKey(
+            null, TestTokens.KEY_PAIR.getPublic(), JWSAlgorithm.RS256);
+
+    @Test
+    void stopsTheApplicationWhenADecoderAcceptsAForgedToken() {
+        JwtDecoder acceptsEverything = token -> Jwt.withTokenValue(token).header("alg", "RS256").subject("forged").build();
+
+        assertThatThrownBy(() -> DecoderWarmUp.run(acceptsEverything, List.of(KEY), key -> acceptsEverything, 10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("The JwtDecoder accepted a token with a forged signature");
+    }
+
+    @Test
+    void rejectsEveryForgedTokenAndAcceptsTheSignedOneWithTheNimbusDecoder() {
+        AtomicInteger accepted = new AtomicInteger();
+
+        DecoderWarmUp.run(configuredDecoder(), List.of(KEY), key -> counting(nimbusDecoder(key), accepted), 20);
+
+        assertThat(accepted).hasValue(2);
+    }
+
+    @Test
+    void acceptsTheSignedTokenWithTheFastDecoder() {
+        AtomicInteger accepted = new AtomicInteger();
+
+        DecoderWarmUp.run(configuredDecoder(), List.of(KEY), key -> counting(new FastJwtDecoder(keyId -> key, nimbusDecoder(key)), accepted), 20);
+
+        assertThat(accepted).hasValue(2);
+    }
+
+    @Test
+    void doesNothingWithoutIterations() {
+        DecoderWarmUp.run(token -> {
+            throw new AssertionError("decoded " + token);
+        }, List.of(KEY), key -> {
+            throw new AssertionError("created a decoder for " + key);
+        }, 0);
+    }
+
+    private static JwtDecoder configuredDecoder() {
+        return TestTokens.jwtDecoder(TestTokens.properties());
+    }
+
+    private static JwtDecoder nimbusDecoder(JwkSetKeyProvider.VerificationKey key) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new SingleKeyJWSKeySelector<>(key.algorithm(), key.publicKey()));
+        return new NimbusJwtDecoder(jwtProcessor);
+    }
+
+    // Counts the tokens the throwaway decoder accepts, a rejection stops the warm-up early
+    private static JwtDecoder counting(JwtDecoder jwtDecoder, AtomicInteger accepted) {
+        return token -> {
+            Jwt jwt = jwtDecoder.decode(token);
+            accepted.incrementAndGet();
+            return jwt;
+        };
+    }
+}
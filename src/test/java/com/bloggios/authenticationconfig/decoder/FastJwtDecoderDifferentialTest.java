@@ -0,0 +1,311 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.decoder;
+
+import com.bloggios.authenticationconfig.TestTokens;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.ECPrivateKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.decoder
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+/**
+ * Decodes the same tokens through {@link FastJwtDecoder} and the Nimbus decoder it stands in for, and expects the
+ * same status, message and claims from both.
+ */
+class FastJwtDecoderDifferentialTest {
+
+    private static final JwtDecoder NIMBUS = decoder(SecurityConfigProperties.DecoderType.NIMBUS);
+    private static final FastJwtDecoder FAST = (FastJwtDecoder) decoder(SecurityConfigProperties.DecoderType.FAST);
+    private static final KeyPair EC_KEY_PAIR = ecKeyPair();
+    private static final KeyPair FOREIGN_EC_KEY_PAIR = ecKeyPair();
+    private static final JwtDecoder EC_NIMBUS = decoder(SecurityConfigProperties.DecoderType.NIMBUS, EC_KEY_PAIR);
+    private static final FastJwtDecoder EC_FAST = (FastJwtDecoder) decoder(SecurityConfigProperties.DecoderType.FAST, EC_KEY_PAIR);
+
+    static Stream<Arguments> canonicalTokens() {
+        String valid = TestTokens.token(Duration.ofHours(1));
+        long exp = Instant.now().plus(Duration.ofHours(1)).getEpochSecond();
+        return Stream.of(
+                Arguments.of("valid", valid),
+                Arguments.of("valid with kid", sign(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("k1").build(), TestTokens.claims(Duration.ofHours(1)).build(), TestTokens.KEY_PAIR)),
+                Arguments.of("unknown claims", TestTokens.sign(TestTokens.claims(Duration.ofHours(1))
+                        .claim("loginCount", 3)
+                        .claim("sessionStart", 3_000_000_000L)
+                        .claim("tenant", Map.of("id", 7, "tags", List.of("a", 2, true)))
+                        .claim("scopes", Arrays.asList("read", null))
+                        .claim("flags", List.of())
+                        .build(), TestTokens.KEY_PAIR)),
+                Arguments.of("single audience", TestTokens.sign(TestTokens.claims(Duration.ofHours(1)).audience("blog-service").build(), TestTokens.KEY_PAIR)),
+                Arguments.of("audience list", TestTokens.sign(TestTokens.claims(Duration.ofHours(1)).audience(List.of("blog-service", "user-service")).build(), TestTokens.KEY_PAIR)),
+                Arguments.of("exp only", signRaw("{\"alg\":\"RS256\"}", "{\"sub\":\"rohit\",\"exp\":" + exp + "}", TestTokens.KEY_PAIR)),
+                Arguments.of("tampered", tamper(valid)),
+                Arguments.of("wrong key", TestTokens.sign(TestTokens.claims(Duration.ofHours(1)).build(), TestTokens.FOREIGN_KEY_PAIR)),
+                Arguments.of("alg mismatch", sign(new JWSHeader.Builder(JWSAlgorithm.RS384).type(JOSEObjectType.JWT).build(), TestTokens.claims(Duration.ofHours(1)).build(), TestTokens.KEY_PAIR)),
+                Arguments.of("expired", TestTokens.token(Duration.ofMinutes(-5))),
+                Arguments.of("expired within skew", TestTokens.token(Duration.ofSeconds(-30))),
+                Arguments.of("not yet valid", TestTokens.sign(TestTokens.claims(Duration.ofHours(1)).notBeforeTime(Date.from(Instant.now().plus(Duration.ofMinutes(10)))).build(), TestTokens.KEY_PAIR))
+        );
+    }
+
+    static Stream<Arguments> nonCanonicalTokens() throws JOSEException {
+        long exp = Instant.now().plus(Duration.ofHours(1)).getEpochSecond();
+        SignedJWT hmac = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), TestTokens.claims(Duration.ofHours(1)).build());
+        hmac.sign(new MACSigner(new byte[32]));
+        return Stream.of(
+                Arguments.of("extra header parameter", sign(new JWSHeader.Builder(JWSAlgorithm.RS256).contentType("JWT").build(), TestTokens.claims(Duration.ofHours(1)).build(), TestTokens.KEY_PAIR)),
+                Arguments.of("unexpected typ", sign(new JWSHeader.Builder(JWSAlgorithm.RS256).type(new JOSEObjectType("at+jwt")).build(), TestTokens.claims(Duration.ofHours(1)).build(), TestTokens.KEY_PAIR)),
+                Arguments.of("hmac", hmac.serialize()),
+                Arguments.of("decimal claim", signRaw("{\"alg\":\"RS256\"}", "{\"sub\":\"rohit\",\"exp\":" + exp + ",\"score\":1.5}", TestTokens.KEY_PAIR)),
+                Arguments.of("big integer claim", signRaw("{\"alg\":\"RS256\"}", "{\"sub\":\"rohit\",\"exp\":" + exp + ",\"id\":12345678901234567890}", TestTokens.KEY_PAIR)),
+                Arguments.of("null claim", signRaw("{\"alg\":\"RS256\"}", "{\"sub\":\"rohit\",\"exp\":" + exp + ",\"email\":null}", TestTokens.KEY_PAIR)),
+                Arguments.of("duplicate claim", signRaw("{\"alg\":\"RS256\"}", "{\"sub\":\"rohit\",\"sub\":\"admin\",\"exp\":" + exp + "}", TestTokens.KEY_PAIR)),
+                Arguments.of("numeric subject", signRaw("{\"alg\":\"RS256\"}", "{\"sub\":42,\"exp\":" + exp + "}", TestTokens.KEY_PAIR)),
+                Arguments.of("fractional exp", signRaw("{\"alg\":\"RS256\"}", "{\"sub\":\"rohit\",\"exp\":" + exp + ".5}", TestTokens.KEY_PAIR)),
+                Arguments.of("not json", signRaw("{\"alg\":\"RS256\"}", "rohit", TestTokens.KEY_PAIR)),
+                Arguments.of("missing signature", "eyJhbGciOiJSUzI1NiJ9.e30"),
+                Arguments.of("garbage", "not-a-token")
+        );
+    }
+
+    // The fast decoder re-encodes R || S as DER, whose INTEGERs drop leading zeros and need one before a high bit
+    static Stream<Arguments> es256Tokens() {
+        String valid = es256(signature -> true, EC_KEY_PAIR);
+        return Stream.of(
+                Arguments.of("valid", valid),
+                Arguments.of("r with a leading zero", es256(signature -> signature[0] == 0, EC_KEY_PAIR)),
+                Arguments.of("s with a leading zero", es256(signature -> signature[32] == 0, EC_KEY_PAIR)),
+                Arguments.of("r with the high bit set", es256(signature -> signature[0] < 0, EC_KEY_PAIR)),
+                Arguments.of("s with the high bit set", es256(signature -> signature[32] < 0, EC_KEY_PAIR)),
+                Arguments.of("r and s below the high bit", es256(signature -> signature[0] > 0 && signature[32] > 0, EC_KEY_PAIR)),
+                Arguments.of("tampered", tamper(valid)),
+                Arguments.of("wrong key", es256(signature -> true, FOREIGN_EC_KEY_PAIR)),
+                Arguments.of("truncated signature", valid.substring(0, valid.length() - 4)),
+                Arguments.of("zero signature", valid.substring(0, valid.lastIndexOf('.') + 1) + Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[64]))
+        );
+    }
+
+    static Stream<Arguments> es256Signatures() {
+        byte[] twoLeadingZeros = new byte[64];
+        Arrays.fill(twoLeadingZeros, (byte) 0x5A);
+        twoLeadingZeros[0] = 0;
+        twoLeadingZeros[1] = 0;
+        byte[] highBits = new byte[64];
+        Arrays.fill(highBits, (byte) 0xA5);
+        byte[] zeroThenHighBit = new byte[64];
+        Arrays.fill(zeroThenHighBit, (byte) 0x11);
+        zeroThenHighBit[32] = 0;
+        zeroThenHighBit[33] = (byte) 0x80;
+        byte[] smallest = new byte[64];
+        smallest[31] = 1;
+        return Stream.of(
+                Arguments.of("r with two leading zeros", twoLeadingZeros),
+                Arguments.of("r and s with the high bit set", highBits),
+                Arguments.of("s with a leading zero before a high bit", zeroThenHighBit),
+                Arguments.of("r of one and s of zero", smallest),
+                Arguments.of("signed, r with a leading zero", signature(es256(signature -> signature[0] == 0, EC_KEY_PAIR))),
+                Arguments.of("signed, s with the high bit set", signature(es256(signature -> signature[32] < 0, EC_KEY_PAIR)))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("canonicalTokens")
+    void decidesCanonicalTokensLikeNimbus(String name, String token) {
+        long fallbacks = FAST.getFallbackCount();
+
+        assertSameResult(NIMBUS, FAST, token);
+        assertThat(FAST.getFallbackCount()).isEqualTo(fallbacks);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("es256Tokens")
+    void decidesEs256TokensLikeNimbus(String name, String token) {
+        long fallbacks = EC_FAST.getFallbackCount();
+
+        assertSameResult(EC_NIMBUS, EC_FAST, token);
+        assertThat(EC_FAST.getFallbackCount()).isEqualTo(fallbacks);
+    }
+
+    // The JDK verifier also takes negative or padded INTEGERs, stricter providers only take the minimal encoding
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("es256Signatures")
+    void encodesEs256SignaturesAsMinimalDer(String name, byte[] signature) {
+        assertThat(FastJwtDecoder.toDer(signature)).isEqualTo(minimalDer(signature));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("nonCanonicalTokens")
+    void handsOtherTokensToNimbus(String name, String token) {
+        long fallbacks = FAST.getFallbackCount();
+
+        assertSameResult(NIMBUS, FAST, token);
+        assertThat(FAST.getFallbackCount()).isEqualTo(fallbacks + 1);
+    }
+
+    private static void assertSameResult(JwtDecoder nimbus, FastJwtDecoder fast, String token) {
+        DecodeResult expected = DecodeResult.decode(nimbus, token);
+        DecodeResult actual = fast.decodeResult(token);
+
+        assertThat(actual.status()).isEqualTo(expected.status());
+        assertThat(actual.message()).isEqualTo(expected.message());
+        if (expected.isValid()) {
+            assertThat(actual.jwt().getHeaders()).isEqualTo(expected.jwt().getHeaders());
+            assertThat(actual.jwt().getClaims()).isEqualTo(expected.jwt().getClaims());
+        }
+    }
+
+    private static JwtDecoder decoder(SecurityConfigProperties.DecoderType decoderType) {
+        SecurityConfigProperties properties = TestTokens.properties();
+        properties.getKeyProvider().setDecoder(decoderType);
+        return TestTokens.jwtDecoder(properties);
+    }
+
+    private static JwtDecoder decoder(SecurityConfigProperties.DecoderType decoderType, KeyPair keyPair) {
+        SecurityConfigProperties properties = TestTokens.properties();
+        properties.getKeyProvider().setPublicKey("-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder().encodeToString(keyPair.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----\n");
+        properties.getKeyProvider().setDecoder(decoderType);
+        return TestTokens.jwtDecoder(properties);
+    }
+
+    private static KeyPair ecKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(Curve.P_256.toECParameterSpec());
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ECDSA signatures are randomised, so signing the same claims again eventually gives the wanted R || S shape
+    private static String es256(Predicate<byte[]> shape, KeyPair keyPair) {
+        JWTClaimsSet claims = TestTokens.claims(Duration.ofHours(1)).build();
+        try {
+            ECDSASigner signer = new ECDSASigner((ECPrivateKey) keyPair.getPrivate());
+            for (int attempt = 0; attempt < 100_000; attempt++) {
+                SignedJWT signedJWT = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.ES256).type(JOSEObjectType.JWT).build(), claims);
+                signedJWT.sign(signer);
+                if (shape.test(signedJWT.getSignature().decode())) {
+                    return signedJWT.serialize();
+                }
+            }
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+        throw new IllegalStateException("No ES256 signature of the wanted shape");
+    }
+
+    private static String sign(JWSHeader header, JWTClaimsSet claims, KeyPair keyPair) {
+        SignedJWT signedJWT = new SignedJWT(header, claims);
+        try {
+            signedJWT.sign(new RSASSASigner(keyPair.getPrivate()));
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+        return signedJWT.serialize();
+    }
+
+    // Signs the exact JSON given, for shapes the Nimbus builders would normalise away
+    private static String signRaw(String header, String payload, KeyPair keyPair) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String signingInput = encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(keyPair.getPrivate());
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + encoder.encodeToString(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] signature(String token) {
+        return Base64.getUrlDecoder().decode(token.substring(token.lastIndexOf('.') + 1));
+    }
+
+    // SEQUENCE of the two halves as INTEGERs, BigInteger gives the shortest two's complement form
+    private static byte[] minimalDer(byte[] signature) {
+        byte[] r = new BigInteger(1, Arrays.copyOfRange(signature, 0, 32)).toByteArray();
+        byte[] s = new BigInteger(1, Arrays.copyOfRange(signature, 32, 64)).toByteArray();
+        ByteArrayOutputStream der = new ByteArrayOutputStream();
+        der.write(0x30);
+        der.write(4 + r.length + s.length);
+        der.write(0x02);
+        der.write(r.length);
+        der.writeBytes(r);
+        der.write(0x02);
+        der.write(s.length);
+        der.writeBytes(s);
+        return der.toByteArray();
+    }
+
+    // Swaps the payload for one with another subject and keeps the original signature
+    private static String tamper(String token) {
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace(TestTokens.USER_ID, "00000000-0000-0000-0000-000000000000");
+        return parts[0] + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+    }
+}
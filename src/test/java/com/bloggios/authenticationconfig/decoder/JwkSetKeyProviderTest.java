@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.decoder;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.Key;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.decoder
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 30
+ */
+
+class JwkSetKeyProviderTest {
+
+    @TempDir
+    Path directory;
+
+    private JwkSetKeyProvider provider;
+
+    @AfterEach
+    void tearDown() {
+        if (provider != null) {
+            provider.destroy();
+        }
+    }
+
+    @Test
+    void notifiesListenersWhenARefreshPublishesNewKeys() throws Exception {
+        Path jwkSet = write(rsaKey("k1"));
+        provider = provider(jwkSet, Duration.ofMillis(50));
+        AtomicInteger changes = new AtomicInteger();
+        provider.addKeySetListener(changes::incrementAndGet);
+
+        Thread.sleep(200);
+        assertThat(changes).hasValue(0);
+
+        write(jwkSet, rsaKey("k1"), rsaKey("k2"));
+        // Listeners run right after the new map is published, so wait on them rather than on the key
+        awaitUntil(() -> changes.get() > 0);
+
+        assertThat(provider.getKey("k2")).isNotNull();
+    }
+
+    @Test
+    void acceptsAKeyWithoutKidWhenItIsTheOnlySigningKey() throws Exception {
+        RSAKey key = rsaKey(null);
+        provider = provider(write(key), Duration.ofHours(1));
+
+        assertThat(provider.getKeys()).hasSize(1).containsKey(key.computeThumbprint().toString());
+        assertThat(provider.getKey(null).publicKey()).isEqualTo(key.toPublicKey());
+        assertThat(List.<Key>copyOf(provider.selectJWSKeys(new JWSHeader(JWSAlgorithm.RS256), null))).containsExactly(key.toPublicKey());
+    }
+
+    @Test
+    void skipsKeysWithoutKidWhenTheSetHoldsSeveralSigningKeys() throws Exception {
+        provider = provider(write(rsaKey("k1"), rsaKey(null)), Duration.ofHours(1));
+
+        assertThat(provider.getKeys()).containsOnlyKeys("k1");
+        assertThat(provider.getKey(null)).isNotNull();
+    }
+
+    @Test
+    void resolvesTokensWithoutKidToTheCurrentKeyDuringARotation() throws Exception {
+        RSAKey current = rsaKey(null);
+        Path jwkSet = write(rsaKey(null));
+        provider = provider(jwkSet, Duration.ofMillis(50));
+        AtomicInteger changes = new AtomicInteger();
+        provider.addKeySetListener(changes::incrementAndGet);
+
+        write(jwkSet, current);
+        awaitUntil(() -> changes.get() > 0);
+
+        assertThat(provider.getKeys()).hasSize(2);
+        assertThat(provider.getKey(null).publicKey()).isEqualTo(current.toPublicKey());
+    }
+
+    static RSAKey rsaKey(String keyId) throws JOSEException {
+        RSAKeyGenerator generator = new RSAKeyGenerator(2048);
+        return keyId == null ? generator.generate() : generator.keyID(keyId).generate();
+    }
+
+    private Path write(JWK... keys) throws IOException {
+        return write(directory.resolve("jwks.json"), keys);
+    }
+
+    // Written to a sibling and moved, so a refresh never reads a half written file
+    private static Path write(Path path, JWK... keys) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.writeString(temporary, new JWKSet(List.of(keys)).toPublicJWKSet().toString());
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return path;
+    }
+
+    private static JwkSetKeyProvider provider(Path jwkSet, Duration refreshInterval) {
+        return new JwkSetKeyProvider("file:" + jwkSet, refreshInterval, Duration.ofHours(1), 2048);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.decoder;
+
+import com.bloggios.authenticationconfig.TestTokens;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.decoder
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class VerificationKeyLoaderTest {
+
+    private static final String STORE_PASSWORD = "changeit";
+    private static final String ALIAS = "verification";
+
+    @TempDir
+    static Path directory;
+
+    private static Path keyStore;
+    private static PublicKey certificateKey;
+
+    // The JDK has no API to issue a certificate, so keytool creates the keystore and exports its certificate
+    @BeforeAll
+    static void createKeyStore() throws Exception {
+        keyStore = directory.resolve("verification.p12");
+        keytool("-genkeypair", "-keyalg", "RSA", "-keysize", "2048", "-alias", ALIAS, "-dname", "CN=bloggios", "-validity", "1",
+                "-storetype", "PKCS12", "-keystore", keyStore.toString(), "-storepass", STORE_PASSWORD);
+        keytool("-exportcert", "-alias", ALIAS, "-keystore", keyStore.toString(), "-storepass", STORE_PASSWORD,
+                "-file", directory.resolve("verification.der").toString());
+        keytool("-exportcert", "-rfc", "-alias", ALIAS, "-keystore", keyStore.toString(), "-storepass", STORE_PASSWORD,
+                "-file", directory.resolve("verification.pem").toString());
+        KeyStore store = KeyStore.getInstance("PKCS12");
+        try (InputStream inputStream = Files.newInputStream(keyStore)) {
+            store.load(inputStream, STORE_PASSWORD.toCharArray());
+        }
+        certificateKey = store.getCertificate(ALIAS).getPublicKey();
+    }
+
+    @Test
+    void loadsAnInlinePemPublicKey() {
+        JwkSetKeyProvider.VerificationKey key = load(pem("PUBLIC KEY", TestTokens.KEY_PAIR.getPublic().getEncoded()));
+
+        assertThat(key.algorithm()).isEqualTo(JWSAlgorithm.RS256);
+        assertThat(key.publicKey()).isEqualTo(TestTokens.KEY_PAIR.getPublic());
+    }
+
+    @Test
+    void loadsAPemEcPublicKeyForEs256() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+
+        JwkSetKeyProvider.VerificationKey key = load(pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+
+        assertThat(key.algorithm()).isEqualTo(JWSAlgorithm.ES256);
+        assertThat(key.publicKey()).isEqualTo(keyPair.getPublic());
+    }
+
+    @Test
+    void loadsADerPublicKeyFromAFile() throws Exception {
+        Path der = Files.write(directory.resolve("public.der"), TestTokens.KEY_PAIR.getPublic().getEncoded());
+
+        assertThat(load("file:" + der).publicKey()).isEqualTo(TestTokens.KEY_PAIR.getPublic());
+    }
+
+    @Test
+    void loadsAPkcs1RsaPublicKey() {
+        RSAPublicKey publicKey = (RSAPublicKey) TestTokens.KEY_PAIR.getPublic();
+        byte[] pkcs1 = tlv(0x30, concat(tlv(0x02, publicKey.getModulus().toByteArray()), tlv(0x02, publicKey.getPublicExponent().toByteArray())));
+
+        assertThat(load(pem("RSA PUBLIC KEY", pkcs1)).publicKey()).isEqualTo(publicKey);
+    }
+
+    @Test
+    void loadsTheKeyOfAPemOrDerCertificate() {
+        assertThat(load("file:" + directory.resolve("verification.pem")).publicKey()).isEqualTo(certificateKey);
+        assertThat(load("file:" + directory.resolve("verification.der")).publicKey()).isEqualTo(certificateKey);
+    }
+
+    @Test
+    void loadsTheCertificateOfAPkcs12KeyStore() {
+        SecurityConfigProperties.KeyProvider keyProvider = keyProvider("file:" + keyStore);
+        keyProvider.setKeyStorePassword(STORE_PASSWORD);
+
+        JwkSetKeyProvider.VerificationKey key = VerificationKeyLoader.load(keyProvider);
+
+        assertThat(key.algorithm()).isEqualTo(JWSAlgorithm.RS256);
+        assertThat(key.publicKey()).isEqualTo(certificateKey);
+    }
+
+    @Test
+    void rejectsAPkcs12KeyStoreWithTheWrongPassword() {
+        SecurityConfigProperties.KeyProvider keyProvider = keyProvider("file:" + keyStore);
+        keyProvider.setKeyStorePassword("wrong");
+
+        assertThatThrownBy(() -> VerificationKeyLoader.load(keyProvider))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Unable to load the verification key from file:");
+    }
+
+    @Test
+    void loadsAJwkAndPicksAKeyOfAJwkSetByKid() throws Exception {
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID("rsa").generate();
+        ECKey ecKey = new ECKeyGenerator(Curve.P_256).keyID("ec").generate();
+        String jwkSet = new JWKSet(List.of(rsaKey.toPublicJWK(), ecKey.toPublicJWK())).toString();
+
+        assertThat(load(rsaKey.toPublicJWK().toJSONString()).publicKey()).isEqualTo(rsaKey.toPublicKey());
+        SecurityConfigProperties.KeyProvider keyProvider = keyProvider(jwkSet);
+        keyProvider.setKeyAlias("ec");
+        JwkSetKeyProvider.VerificationKey key = VerificationKeyLoader.load(keyProvider);
+        assertThat(key.algorithm()).isEqualTo(JWSAlgorithm.ES256);
+        assertThat(key.publicKey()).isEqualTo(ecKey.toPublicKey());
+        assertThatThrownBy(() -> load(jwkSet))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2 signing keys match");
+    }
+
+    @Test
+    void rejectsRsaKeysBelowTheMinimumSize() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(1024);
+        String weakKey = pem("PUBLIC KEY", generator.generateKeyPair().getPublic().getEncoded());
+
+        assertThatThrownBy(() -> load(weakKey))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("1024 bit RSA key is below security-config.key-provider.minimum-key-size of 2048 bits");
+        SecurityConfigProperties.KeyProvider keyProvider = keyProvider(weakKey);
+        keyProvider.setMinimumKeySize(1024);
+        assertThat(VerificationKeyLoader.load(keyProvider).algorithm()).isEqualTo(JWSAlgorithm.RS256);
+    }
+
+    @Test
+    void rejectsPrivateKeys() {
+        assertThatThrownBy(() -> load(pem("PRIVATE KEY", TestTokens.KEY_PAIR.getPrivate().getEncoded())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("found a PRIVATE KEY, configure the public key or certificate instead");
+    }
+
+    private static JwkSetKeyProvider.VerificationKey load(String publicKey) {
+        return VerificationKeyLoader.load(keyProvider(publicKey));
+    }
+
+    private static SecurityConfigProperties.KeyProvider keyProvider(String publicKey) {
+        SecurityConfigProperties.KeyProvider keyProvider = new SecurityConfigProperties.KeyProvider();
+        keyProvider.setPublicKey(publicKey);
+        return keyProvider;
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n" + Base64.getMimeEncoder().encodeToString(der) + "\n-----END " + type + "-----\n";
+    }
+
+    private static byte[] tlv(int tag, byte[] value) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(tag);
+        if (value.length < 0x80) {
+            output.write(value.length);
+        } else {
+            output.write(0x82);
+            output.write(value.length >> 8);
+            output.write(value.length & 0xFF);
+        }
+        output.writeBytes(value);
+        return output.toByteArray();
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static void keytool(String... arguments) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "keytool").toString());
+        command.addAll(List.of(arguments));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes());
+        assertThat(process.waitFor()).as(output).isZero();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.password;
+
+import com.bloggios.authenticationconfig.metrics.AuthenticationMetrics;
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.password
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class BulkheadPasswordEncoderTest {
+
+    private final AuthenticationMetrics authenticationMetrics = mock(AuthenticationMetrics.class);
+    private final SlowPasswordEncoder slowPasswordEncoder = new SlowPasswordEncoder();
+    private BulkheadPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void releaseAndDestroy() {
+        slowPasswordEncoder.release.countDown();
+        if (passwordEncoder != null) {
+            passwordEncoder.destroy();
+        }
+    }
+
+    @Test
+    void rejectsAtOnceWhenTheQueueIsFull() throws Exception {
+        passwordEncoder = new BulkheadPasswordEncoder(slowPasswordEncoder, properties(1, Duration.ofSeconds(5)), authenticationMetrics);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("running"));
+        assertThat(slowPasswordEncoder.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("queued"));
+        while (passwordEncoder.getQueueSize() == 0) {
+            Thread.onSpinWait();
+        }
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> passwordEncoder.encode("rejected"))
+                .isInstanceOf(RejectedExecutionException.class)
+                .hasMessageContaining("1 hashes are already waiting");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        verify(authenticationMetrics).recordPasswordRejection(PasswordOperation.ENCODE);
+
+        slowPasswordEncoder.release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:queued");
+    }
+
+    @Test
+    void rejectsAHashThatOutlivesMaxWait() {
+        passwordEncoder = new BulkheadPasswordEncoder(slowPasswordEncoder, properties(1, Duration.ofMillis(50)), authenticationMetrics);
+
+        assertThatThrownBy(() -> passwordEncoder.matches("secret", "hashed:secret"))
+                .isInstanceOf(RejectedExecutionException.class)
+                .hasMessage("Password hashing did not complete within 50 ms");
+        verify(authenticationMetrics).recordPasswordRejection(PasswordOperation.MATCHES);
+    }
+
+    @Test
+    void timesEveryHashOnThePool() {
+        passwordEncoder = new BulkheadPasswordEncoder(new BCryptPasswordEncoder(4), properties(1, Duration.ofSeconds(5)), authenticationMetrics);
+
+        String hash = passwordEncoder.encode("secret");
+
+        assertThat(passwordEncoder.matches("secret", hash)).isTrue();
+        verify(authenticationMetrics).recordPasswordHash(anyLong(), eq(PasswordOperation.ENCODE));
+        verify(authenticationMetrics).recordPasswordHash(anyLong(), eq(PasswordOperation.MATCHES));
+    }
+
+    @Test
+    void rehashesAnOutdatedHashOnAMatch() {
+        SecurityConfigProperties.Password properties = properties(1, Duration.ofSeconds(5));
+        properties.setCalibrate(false);
+        properties.setMinimumBcryptStrength(5);
+        passwordEncoder = new BulkheadPasswordEncoder(PasswordEncoders.create(properties), properties, authenticationMetrics);
+        String outdated = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret");
+
+        PasswordMatch match = passwordEncoder.verify("secret", outdated);
+
+        assertThat(match.matches()).isTrue();
+        assertThat(match.isUpgraded()).isTrue();
+        assertThat(match.upgradedHash()).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordEncoder.verify("secret", match.upgradedHash())).isEqualTo(PasswordMatch.CURRENT);
+        assertThat(passwordEncoder.verify("wrong", outdated)).isEqualTo(PasswordMatch.MISMATCH);
+        verify(authenticationMetrics).recordPasswordHash(anyLong(), eq(PasswordOperation.REHASH));
+    }
+
+    private static SecurityConfigProperties.Password properties(int queueSize, Duration maxWait) {
+        SecurityConfigProperties.Password properties = new SecurityConfigProperties.Password();
+        properties.setThreads(1);
+        properties.setQueueSize(queueSize);
+        properties.setMaxWait(maxWait);
+        return properties;
+    }
+
+    // Hashes nothing and holds the pool thread until released
+    private static final class SlowPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+
+        private void await() {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
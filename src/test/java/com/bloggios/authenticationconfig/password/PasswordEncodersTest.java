@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.password;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.password
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class PasswordEncodersTest {
+
+    @Test
+    void writesPrefixedHashesAtTheConfiguredStrength() {
+        PasswordEncoder passwordEncoder = PasswordEncoders.create(uncalibrated(5));
+
+        String hash = passwordEncoder.encode("secret");
+
+        assertThat(hash).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordEncoder.matches("secret", hash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    void matchesBareBcryptHashesAndAsksForTheirUpgrade() {
+        PasswordEncoder passwordEncoder = PasswordEncoders.create(uncalibrated(5));
+        String bare = new BCryptPasswordEncoder(5).encode("secret");
+
+        assertThat(passwordEncoder.matches("secret", bare)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", bare)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(bare)).isTrue();
+    }
+
+    @Test
+    void asksForTheUpgradeOfAWeakerBcryptHash() {
+        PasswordEncoder passwordEncoder = PasswordEncoders.create(uncalibrated(5));
+
+        assertThat(passwordEncoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+    }
+
+    @Test
+    void matchesPbkdf2HashesWhateverTheEncodingId() {
+        SecurityConfigProperties.Password pbkdf2 = uncalibrated(5);
+        pbkdf2.setEncodingId(PasswordEncoders.PBKDF2);
+        String hash = PasswordEncoders.create(pbkdf2).encode("secret");
+
+        assertThat(hash).startsWith("{pbkdf2}");
+        assertThat(PasswordEncoders.create(uncalibrated(5)).matches("secret", hash)).isTrue();
+    }
+
+    @Test
+    void rejectsAnUnknownEncodingId() {
+        SecurityConfigProperties.Password properties = uncalibrated(5);
+        properties.setEncodingId("md5");
+
+        assertThatThrownBy(() -> PasswordEncoders.create(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unsupported security-config.password.encoding-id md5");
+    }
+
+    @Test
+    void keepsTheCalibratedCostWithinItsBounds() {
+        List<Integer> measuredCosts = new ArrayList<>();
+        PasswordEncoder fast = new BCryptPasswordEncoder(4);
+
+        int generous = PasswordEncoders.calibrate(PasswordEncoders.BCRYPT, cost -> {
+            measuredCosts.add(cost);
+            return fast;
+        }, 4, 7, Duration.ofHours(1));
+        int stingy = PasswordEncoders.calibrate(PasswordEncoders.BCRYPT, cost -> fast, 4, 7, Duration.ZERO);
+
+        assertThat(generous).isEqualTo(7);
+        assertThat(stingy).isEqualTo(4);
+        assertThat(measuredCosts).containsExactly(4);
+    }
+
+    private static SecurityConfigProperties.Password uncalibrated(int strength) {
+        SecurityConfigProperties.Password properties = new SecurityConfigProperties.Password();
+        properties.setCalibrate(false);
+        properties.setMinimumBcryptStrength(strength);
+        return properties;
+    }
+}
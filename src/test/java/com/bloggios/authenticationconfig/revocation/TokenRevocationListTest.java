@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.revocation;
+
+import com.bloggios.authenticationconfig.properties.SecurityConfigProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.revocation
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class TokenRevocationListTest {
+
+    private final Instant later = Instant.now().plus(Duration.ofHours(1));
+    private final List<TokenRevocationList> lists = new ArrayList<>();
+
+    @AfterEach
+    void destroy() {
+        lists.forEach(TokenRevocationList::destroy);
+    }
+
+    @Test
+    void sizesTheFilterAtTenBitsPerEntryRoundedUpToAPowerOfTwo() {
+        assertThat(list(new Source(tokenIds(0))).filterBits()).isEqualTo(64);
+        assertThat(list(new Source(tokenIds(1))).filterBits()).isEqualTo(64);
+        assertThat(list(new Source(tokenIds(6))).filterBits()).isEqualTo(64);
+        assertThat(list(new Source(tokenIds(7))).filterBits()).isEqualTo(128);
+        assertThat(list(new Source(tokenIds(1638))).filterBits()).isEqualTo(16384);
+        assertThat(list(new Source(tokenIds(1639))).filterBits()).isEqualTo(32768);
+    }
+
+    @Test
+    void keepsFalsePositivesBelowOnePercentAtFullLoad() {
+        TokenRevocationList list = list(new Source(tokenIds(1638)));
+
+        assertThat(IntStream.range(0, 1638).allMatch(i -> list.filterMatches("revoked-" + i))).isTrue();
+        long falsePositives = IntStream.range(0, 100_000).filter(i -> list.filterMatches("valid-" + i)).count();
+        assertThat(falsePositives).isLessThan(1_000);
+        assertThat(IntStream.range(0, 100_000).noneMatch(i -> list.isRevoked(jwt("valid-" + i, "user", later)))).isTrue();
+    }
+
+    @Test
+    void matchesByTokenIdOrBySubjectAndIssueTime() {
+        Instant issuedAt = Instant.parse("2026-10-18T10:15:30Z");
+        TokenRevocationList list = list(new Source(List.of(
+                RevokedToken.ofTokenId("jti-1", later),
+                RevokedToken.ofSubject("user-1", issuedAt, later)
+        )));
+
+        assertThat(list.isRevoked(jwt("jti-1", "user-2", Instant.now()))).isTrue();
+        assertThat(list.isRevoked(jwt("jti-2", "user-1", issuedAt.plusMillis(400)))).isTrue();
+        assertThat(list.isRevoked(jwt("jti-2", "user-1", issuedAt.plusSeconds(1)))).isFalse();
+        assertThat(list.isRevoked(jwt(null, "user-2", issuedAt))).isFalse();
+    }
+
+    @Test
+    void dropsEntriesOnceTheirTokenHasExpired() throws InterruptedException {
+        Source source = new Source(List.of(
+                RevokedToken.ofTokenId("expired", Instant.now().minusSeconds(1)),
+                RevokedToken.ofTokenId("expiring", Instant.now().plusMillis(300)),
+                RevokedToken.ofTokenId("valid", later)
+        ));
+        TokenRevocationList list = list(source);
+        assertThat(list.size()).isEqualTo(2);
+        assertThat(list.isRevoked(jwt("expired", "user", later))).isFalse();
+        assertThat(list.isRevoked(jwt("expiring", "user", later))).isTrue();
+
+        list.revoke(RevokedToken.ofTokenId("local", Instant.now().minusSeconds(1)));
+        assertThat(list.isRevoked(jwt("local", "user", later))).isFalse();
+
+        Thread.sleep(400);
+        source.change(source.tokens);
+        awaitUntil(() -> list.size() == 1);
+        assertThat(list.isRevoked(jwt("expiring", "user", later))).isFalse();
+        assertThat(list.isRevoked(jwt("valid", "user", later))).isTrue();
+    }
+
+    @Test
+    void keepsLocalRevocationsAcrossReloads() throws InterruptedException {
+        Source source = new Source(List.of(RevokedToken.ofTokenId("loaded", later)));
+        TokenRevocationList list = list(source);
+        list.revoke(RevokedToken.ofTokenId("local", later));
+        assertThat(list.isRevoked(jwt("local", "user", later))).isTrue();
+
+        source.change(List.of(RevokedToken.ofTokenId("reloaded", later)));
+        awaitUntil(() -> list.isRevoked(jwt("reloaded", "user", later)));
+        assertThat(list.isRevoked(jwt("loaded", "user", later))).isFalse();
+        assertThat(list.isRevoked(jwt("local", "user", later))).isTrue();
+        assertThat(list.size()).isEqualTo(2);
+    }
+
+    @Test
+    void keepsKnownEntriesWhenAReloadFails() throws InterruptedException {
+        Source source = new Source(List.of(RevokedToken.ofTokenId("loaded", later)));
+        TokenRevocationList list = list(source);
+
+        source.failure = new IOException("unreadable");
+        source.change(List.of());
+        awaitUntil(() -> source.loads > 1);
+        assertThat(list.isRevoked(jwt("loaded", "user", later))).isTrue();
+    }
+
+    @Test
+    void refusesToStartOnAnUnreadableSource() {
+        Source source = new Source(List.of());
+        source.failure = new IOException("unreadable");
+
+        assertThatThrownBy(() -> list(source))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Unable to load revoked tokens : unreadable");
+    }
+
+    @Test
+    void neitherLoadsNorRevokesWhenDisabled() {
+        Source source = new Source(tokenIds(3));
+        TokenRevocationList list = new TokenRevocationList(source, new SecurityConfigProperties());
+
+        assertThat(source.loads).isZero();
+        assertThat(list.isRevoked(jwt("revoked-0", "user", later))).isFalse();
+        assertThatThrownBy(() -> list.revoke(RevokedToken.ofTokenId("local", later)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private TokenRevocationList list(RevocationSource source) {
+        SecurityConfigProperties properties = new SecurityConfigProperties();
+        properties.getRevocation().setEnabled(true);
+        properties.getRevocation().setRefreshInterval(Duration.ofHours(1));
+        TokenRevocationList list = new TokenRevocationList(source, properties);
+        lists.add(list);
+        return list;
+    }
+
+    private List<RevokedToken> tokenIds(int count) {
+        return IntStream.range(0, count).mapToObj(i -> RevokedToken.ofTokenId("revoked-" + i, later)).toList();
+    }
+
+    private static Jwt jwt(String tokenId, String subject, Instant issuedAt) {
+        Jwt.Builder builder = Jwt.withTokenValue("token").header("alg", "RS256").subject(subject).issuedAt(issuedAt);
+        if (tokenId != null) {
+            builder.jti(tokenId);
+        }
+        return builder.build();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static final class Source implements RevocationSource {
+
+        private volatile List<RevokedToken> tokens;
+        private volatile IOException failure;
+        private volatile int loads;
+        private Runnable listener;
+
+        private Source(List<RevokedToken> tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public Collection<RevokedToken> load() throws IOException {
+            loads++;
+            if (failure != null) {
+                throw failure;
+            }
+            return tokens;
+        }
+
+        @Override
+        public void onChange(Runnable listener) {
+            this.listener = listener;
+        }
+
+        void change(List<RevokedToken> tokens) {
+            this.tokens = tokens;
+            listener.run();
+        }
+    }
+}
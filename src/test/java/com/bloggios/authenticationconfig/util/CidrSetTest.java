@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.util
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class CidrSetTest {
+
+    private final CidrSet cidrSet = CidrSet.of(List.of("10.0.0.0/8", "192.168.1.7", " 172.16.0.0/12 ", "2001:db8::/32", "fd00::1/128"));
+
+    @Test
+    void matchesIpv4Blocks() {
+        assertThat(cidrSet.contains("10.255.0.1")).isTrue();
+        assertThat(cidrSet.contains("11.0.0.1")).isFalse();
+        assertThat(cidrSet.contains("192.168.1.7")).isTrue();
+        assertThat(cidrSet.contains("192.168.1.8")).isFalse();
+        assertThat(cidrSet.contains("172.31.255.255")).isTrue();
+        assertThat(cidrSet.contains("172.32.0.0")).isFalse();
+    }
+
+    @Test
+    void matchesIpv6BlocksAndMappedIpv4() {
+        assertThat(cidrSet.contains("2001:db8:ffff::1")).isTrue();
+        assertThat(cidrSet.contains("2001:db9::1")).isFalse();
+        assertThat(cidrSet.contains("fd00::1")).isTrue();
+        assertThat(cidrSet.contains("fd00::2")).isFalse();
+        assertThat(cidrSet.contains("::ffff:10.1.2.3")).isTrue();
+        assertThat(cidrSet.contains("fe80::1%eth0")).isFalse();
+    }
+
+    @Test
+    void matchesARangeInsideALongerValue() {
+        String header = "198.51.100.1, 10.0.0.7";
+
+        assertThat(cidrSet.contains(header, 14, header.length())).isTrue();
+        assertThat(cidrSet.contains(header, 0, 12)).isFalse();
+    }
+
+    @Test
+    void neverMatchesHostNamesOrMalformedValues() {
+        assertThat(cidrSet.contains("localhost")).isFalse();
+        assertThat(cidrSet.contains("10.0.0")).isFalse();
+        assertThat(cidrSet.contains("10.0.0.256")).isFalse();
+        assertThat(cidrSet.contains("2001:db8:::1")).isFalse();
+        assertThat(cidrSet.contains("")).isFalse();
+    }
+
+    @Test
+    void matchesEverythingWithAZeroPrefix() {
+        CidrSet any = CidrSet.of(List.of("0.0.0.0/0", "::/0"));
+
+        assertThat(any.contains("203.0.113.10")).isTrue();
+        assertThat(any.contains("2001:db8::1")).isTrue();
+    }
+
+    @Test
+    void isEmptyWithoutBlocks() {
+        assertThat(CidrSet.of(null)).isSameAs(CidrSet.EMPTY);
+        assertThat(CidrSet.of(List.of()).isEmpty()).isTrue();
+        assertThat(CidrSet.EMPTY.contains("10.0.0.1")).isFalse();
+        assertThat(cidrSet.isEmpty()).isFalse();
+    }
+
+    @Test
+    void rejectsInvalidBlocks() {
+        assertThatThrownBy(() -> CidrSet.of(List.of("10.0.0.0/33"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CidrSet.of(List.of("2001:db8::/129"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CidrSet.of(List.of("proxy.internal"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CidrSet.of(List.of("10.0.0.0/x"))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
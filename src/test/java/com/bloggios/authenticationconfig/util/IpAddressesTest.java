@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2023-2024 Rohit Parihar and Bloggios
+ * All rights reserved.
+ * This software is the property of Rohit Parihar and is protected by copyright law.
+ * The software, including its source code, documentation, and associated files, may not be used, copied, modified, distributed, or sublicensed without the express written consent of Rohit Parihar.
+ * For licensing and usage inquiries, please contact Rohit Parihar at rohitparih@gmail.com, or you can also contact support@bloggios.com.
+ * This software is provided as-is, and no warranties or guarantees are made regarding its fitness for any particular purpose or compatibility with any specific technology.
+ * For license information and terms of use, please refer to the accompanying LICENSE file or visit http://www.apache.org/licenses/LICENSE-2.0.
+ * Unauthorized use of this software may result in legal action and liability for damages.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.bloggios.authenticationconfig.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Owner - Rohit Parihar
+ * Author - rohit
+ * Project - authentication-configuration-jar
+ * Package - com.bloggios.authenticationconfig.util
+ * Created_on - 18 October-2026
+ * Created_at - 23 : 59
+ */
+
+class IpAddressesTest {
+
+    @Test
+    void parsesDottedQuads() {
+        assertThat(parseIpv4("0.0.0.0")).isZero();
+        assertThat(parseIpv4("255.255.255.255")).isEqualTo(0xFFFFFFFFL);
+        assertThat(parseIpv4("10.1.2.3")).isEqualTo(0x0A010203L);
+        assertThat(IpAddresses.parseIpv4("for 10.1.2.3;", 4, 12)).isEqualTo(0x0A010203L);
+    }
+
+    @Test
+    void rejectsAnythingElseAsIpv4() {
+        assertThat(parseIpv4("256.0.0.1")).isEqualTo(-1);
+        assertThat(parseIpv4("10.0.0")).isEqualTo(-1);
+        assertThat(parseIpv4("10.0.0.1.2")).isEqualTo(-1);
+        assertThat(parseIpv4("10..0.1")).isEqualTo(-1);
+        assertThat(parseIpv4("1000.0.0.1")).isEqualTo(-1);
+        assertThat(parseIpv4("")).isEqualTo(-1);
+    }
+
+    @Test
+    void parsesIpv6LikeInetAddress() throws Exception {
+        for (String address : new String[]{"::", "::1", "2001:db8::1", "2001:db8:0:0:1:0:0:1", "fe80::1:2:3:4", "1:2:3:4:5:6:7:8", "::ffff:10.1.2.3", "64:ff9b::192.0.2.33"}) {
+            ByteBuffer expected = ByteBuffer.wrap(InetAddress.getByName(address).getAddress().length == 16
+                    ? InetAddress.getByName(address).getAddress()
+                    : mapped(InetAddress.getByName(address).getAddress()));
+            assertThat(IpAddresses.isIpv6(address, 0, address.length())).as(address).isTrue();
+            assertThat(IpAddresses.ipv6High(address, 0, address.length())).as(address).isEqualTo(expected.getLong(0));
+            assertThat(IpAddresses.ipv6Low(address, 0, address.length())).as(address).isEqualTo(expected.getLong(8));
+        }
+    }
+
+    @Test
+    void ignoresTheZoneId() {
+        String address = "fe80::1%eth0";
+
+        assertThat(IpAddresses.isIpv6(address, 0, address.length())).isTrue();
+        assertThat(IpAddresses.ipv6Low(address, 0, address.length())).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsMalformedIpv6() {
+        for (String address : new String[]{"2001:db8:::1", "1::2::3", "1:2:3:4:5:6:7:8:9", "12345::1", "g::1", ":1", "1:", ""}) {
+            assertThat(IpAddresses.isIpv6(address, 0, address.length())).as(address).isFalse();
+        }
+    }
+
+    @Test
+    void buildsPrefixMasks() {
+        assertThat(IpAddresses.ipv4Mask(0)).isZero();
+        assertThat(IpAddresses.ipv4Mask(24)).isEqualTo(0xFFFFFF00L);
+        assertThat(IpAddresses.ipv4Mask(32)).isEqualTo(0xFFFFFFFFL);
+        assertThat(IpAddresses.ipv6HighMask(0)).isZero();
+        assertThat(IpAddresses.ipv6HighMask(32)).isEqualTo(0xFFFFFFFF00000000L);
+        assertThat(IpAddresses.ipv6LowMask(64)).isZero();
+        assertThat(IpAddresses.ipv6HighMask(128)).isEqualTo(-1L);
+        assertThat(IpAddresses.ipv6LowMask(96)).isEqualTo(0xFFFFFFFF00000000L);
+        assertThat(IpAddresses.ipv6LowMask(128)).isEqualTo(-1L);
+    }
+
+    private static long parseIpv4(String address) {
+        return IpAddresses.parseIpv4(address, 0, address.length());
+    }
+
+    // InetAddress hands IPv4-mapped addresses back as plain IPv4
+    private static byte[] mapped(byte[] ipv4) {
+        byte[] bytes = new byte[16];
+        bytes[10] = (byte) 0xFF;
+        bytes[11] = (byte) 0xFF;
+        System.arraycopy(ipv4, 0, bytes, 12, 4);
+        return bytes;
+    }
+}